@@ -0,0 +1,42 @@
+package aura.event_based_task.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Chat history is repetitive text; gzip typically shrinks a snapshot to a fifth of its JSON size.
+@Component
+public class ArchiveCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public ArchiveCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public byte[] encode(ArchivedEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, event);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not encode archive for event " + event.id(), ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    public ArchivedEvent decode(byte[] payload) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(in, ArchivedEvent.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not decode archive payload", ex);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package aura.event_based_task.archive;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Snapshot of an event and everything that hung off it, as stored in the archive payload.
+ * Users are referenced by id, except chat senders, whose usernames are what the history shows.
+ */
+public record ArchivedEvent(Long id, String name, String description, LocalDate date, String location,
+                            Integer maxParticipants, String category, String tags, String imageUrl,
+                            Long creatorId, LocalDateTime createdAt, List<Long> memberIds,
+                            List<Task> tasks, List<Message> messages) {
+
+    public record Task(Long id, String name, String description, String status, Integer priority,
+                       LocalDateTime deadline, Integer estimatedHours, Integer actualHours,
+                       LocalDateTime createdAt, LocalDateTime updatedAt, Long assignedToId,
+                       Long createdById, List<Long> dependencyIds) {
+    }
+
+    public record Message(Long id, String sender, String content, LocalDateTime timestamp) {
+    }
+}
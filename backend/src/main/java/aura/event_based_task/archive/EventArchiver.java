@@ -0,0 +1,182 @@
+package aura.event_based_task.archive;
+
+import aura.event_based_task.config.ArchiveConfig;
+import aura.event_based_task.domain.EventChangedEvent;
+import aura.event_based_task.model.EventArchive;
+import aura.event_based_task.repository.EventArchiveRepository;
+import aura.event_based_task.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves expired events out of the hot tables. Each run picks events dated before the retention
+ * cutoff, oldest first, and archives them {@code batch-size} at a time: per event, one snapshot
+ * of the event, members, tasks and chat history goes into event_archive, and the source rows
+ * are removed with set-based deletes, all in the batch's transaction. The event row is first
+ * stamped deleted_at through a bulk update so the "event" cache region is invalidated and no
+ * reader can pick up a copy of it half way through.
+ */
+@Component
+public class EventArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventArchiver.class);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventRepository eventRepository;
+    private final EventArchiveRepository archiveRepository;
+    private final ArchiveCodec codec;
+    private final ArchiveConfig config;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public EventArchiver(NamedParameterJdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate,
+                         EventRepository eventRepository,
+                         EventArchiveRepository archiveRepository,
+                         ArchiveCodec codec,
+                         ArchiveConfig config,
+                         ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventRepository = eventRepository;
+        this.archiveRepository = archiveRepository;
+        this.codec = codec;
+        this.config = config;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void run() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        LocalDate cutoff = LocalDate.now().minusDays(config.getRetention().toDays());
+        long start = System.nanoTime();
+        int archived = 0;
+        while (archived < config.getMaxEventsPerRun()) {
+            int limit = Math.min(config.getBatchSize(), config.getMaxEventsPerRun() - archived);
+            Integer count;
+            try {
+                count = transactionTemplate.execute(status -> archiveBatch(cutoff, limit));
+            } catch (RuntimeException ex) {
+                logger.error("Event archival batch failed after {} events", archived, ex);
+                break;
+            }
+            if (count == null || count == 0) {
+                break;
+            }
+            archived += count;
+        }
+        if (archived > 0) {
+            logger.info("Archived {} events dated before {} in {} ms", archived, cutoff,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private int archiveBatch(LocalDate cutoff, int limit) {
+        // Oldest first along idx_event_date; soft-deleted events belong to the purger. A recurring
+        // event's date is the start of its series, so series stay live.
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM events WHERE date < :cutoff AND deleted_at IS NULL"
+                        + " AND (is_recurring IS NULL OR is_recurring = FALSE) ORDER BY date, id LIMIT :limit",
+                new MapSqlParameterSource("cutoff", cutoff).addValue("limit", limit), Long.class);
+        LocalDateTime now = LocalDateTime.now();
+        int archived = 0;
+        for (Long id : ids) {
+            if (eventRepository.softDelete(id, now) == 0) {
+                continue;
+            }
+            ArchivedEvent snapshot = snapshot(id);
+            archiveRepository.save(toArchive(snapshot, now));
+            removeSource(id);
+            eventPublisher.publishEvent(EventChangedEvent.deleted(id));
+            archived++;
+        }
+        return archived;
+    }
+
+    private ArchivedEvent snapshot(Long eventId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("eventId", eventId);
+        List<Long> memberIds = jdbcTemplate.queryForList(
+                "SELECT user_id FROM event_members WHERE event_id = :eventId ORDER BY user_id", params, Long.class);
+
+        Map<Long, List<Long>> dependencies = new HashMap<>();
+        jdbcTemplate.query("SELECT d.task_id, d.dependency_id FROM task_dependencies d "
+                        + "JOIN tasks t ON t.id = d.task_id WHERE t.event_id = :eventId", params,
+                rs -> {
+                    dependencies.computeIfAbsent(rs.getLong(1), key -> new ArrayList<>()).add(rs.getLong(2));
+                });
+
+        List<ArchivedEvent.Task> tasks = jdbcTemplate.query(
+                "SELECT id, name, description, status, priority, deadline, estimated_hours, actual_hours, "
+                        + "created_at, updated_at, assigned_to_user_id, created_by_user_id "
+                        + "FROM tasks WHERE event_id = :eventId ORDER BY id", params,
+                (rs, rowNum) -> new ArchivedEvent.Task(
+                        rs.getLong("id"), rs.getString("name"), rs.getString("description"), rs.getString("status"),
+                        rs.getObject("priority", Integer.class), toLocalDateTime(rs.getTimestamp("deadline")),
+                        rs.getObject("estimated_hours", Integer.class), rs.getObject("actual_hours", Integer.class),
+                        toLocalDateTime(rs.getTimestamp("created_at")), toLocalDateTime(rs.getTimestamp("updated_at")),
+                        rs.getObject("assigned_to_user_id", Long.class), rs.getObject("created_by_user_id", Long.class),
+                        dependencies.getOrDefault(rs.getLong("id"), List.of())));
+
+        List<ArchivedEvent.Message> messages = jdbcTemplate.query(
+                "SELECT m.id, u.username, m.content, m.timestamp FROM chat_messages m "
+                        + "JOIN users u ON u.id = m.sender_id WHERE m.event_id = :eventId ORDER BY m.timestamp, m.id", params,
+                (rs, rowNum) -> new ArchivedEvent.Message(rs.getLong(1), rs.getString(2), rs.getString(3),
+                        toLocalDateTime(rs.getTimestamp(4))));
+
+        return jdbcTemplate.queryForObject(
+                "SELECT id, name, description, date, location, max_participants, category, tags, image_url, "
+                        + "creator_id, created_at FROM events WHERE id = :eventId", params,
+                (rs, rowNum) -> new ArchivedEvent(
+                        rs.getLong("id"), rs.getString("name"), rs.getString("description"),
+                        rs.getObject("date", LocalDate.class), rs.getString("location"),
+                        rs.getObject("max_participants", Integer.class), rs.getString("category"),
+                        rs.getString("tags"), rs.getString("image_url"), rs.getLong("creator_id"),
+                        toLocalDateTime(rs.getTimestamp("created_at")), memberIds, tasks, messages));
+    }
+
+    private EventArchive toArchive(ArchivedEvent snapshot, LocalDateTime now) {
+        EventArchive archive = new EventArchive();
+        archive.setEventId(snapshot.id());
+        archive.setName(snapshot.name());
+        archive.setEventDate(snapshot.date());
+        archive.setCreatorId(snapshot.creatorId());
+        archive.setTaskCount(snapshot.tasks().size());
+        archive.setMessageCount(snapshot.messages().size());
+        archive.getMemberIds().addAll(snapshot.memberIds());
+        archive.setPayload(codec.encode(snapshot));
+        archive.setArchivedAt(now);
+        return archive;
+    }
+
+    // Same order as EventPurger, but in one statement per table: archived events are bounded by the batch.
+    // The image keeps its blob reference; the archived event still shows it.
+    private void removeSource(Long eventId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("eventId", eventId);
+        jdbcTemplate.update("DELETE FROM task_dependencies WHERE task_id IN (SELECT id FROM tasks WHERE event_id = :eventId) "
+                + "OR dependency_id IN (SELECT id FROM tasks WHERE event_id = :eventId)", params);
+        jdbcTemplate.update("DELETE FROM tasks WHERE event_id = :eventId", params);
+        jdbcTemplate.update("DELETE FROM chat_messages WHERE event_id = :eventId", params);
+        jdbcTemplate.update("DELETE FROM event_members WHERE event_id = :eventId", params);
+        jdbcTemplate.update("DELETE FROM events WHERE id = :eventId", params);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,110 @@
+package aura.event_based_task.board;
+
+import aura.event_based_task.dto.TaskBoardView;
+import aura.event_based_task.model.ETaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Counters for one event, kept with each task's last known facts so a change is applied by
+ * subtracting what the task contributed and adding what it contributes now. That makes every
+ * update O(1) apart from the deadline map, and idempotent: applying the same change twice, or
+ * one the load already saw, leaves the counters unchanged.
+ */
+final class TaskBoard {
+
+    private static final int MAX_PRIORITY = 5;
+
+    private final Long eventId;
+    private final LocalDateTime loadedAt;
+    private final Map<Long, TaskFacts> tasks = new HashMap<>();
+    private final long[] byStatus = new long[ETaskStatus.values().length];
+    private final long[] byPriority = new long[MAX_PRIORITY + 1];
+    private long estimatedHours;
+    private long actualHours;
+    // Deadlines of unfinished tasks; overdue depends on the clock, so it is counted when read.
+    private final TreeMap<LocalDateTime, Integer> openDeadlines = new TreeMap<>();
+    private LocalDateTime publishedAt;
+
+    TaskBoard(Long eventId, List<TaskFacts> facts, LocalDateTime loadedAt) {
+        this.eventId = eventId;
+        this.loadedAt = loadedAt;
+        this.publishedAt = loadedAt;
+        facts.forEach(this::put);
+    }
+
+    Long eventId() {
+        return eventId;
+    }
+
+    LocalDateTime loadedAt() {
+        return loadedAt;
+    }
+
+    synchronized void put(TaskFacts facts) {
+        remove(facts.taskId());
+        tasks.put(facts.taskId(), facts);
+        add(facts, 1);
+    }
+
+    synchronized void remove(Long taskId) {
+        TaskFacts previous = tasks.remove(taskId);
+        if (previous != null) {
+            add(previous, -1);
+        }
+    }
+
+    /**
+     * True when a deadline has passed since the board was last published, so the overdue
+     * count is different now even though no task changed.
+     */
+    synchronized boolean overdueChangedSincePublished(LocalDateTime now) {
+        LocalDateTime next = openDeadlines.ceilingKey(publishedAt);
+        return next != null && next.isBefore(now);
+    }
+
+    synchronized TaskBoardView view(LocalDateTime now) {
+        Map<ETaskStatus, Long> statuses = new EnumMap<>(ETaskStatus.class);
+        for (ETaskStatus status : ETaskStatus.values()) {
+            statuses.put(status, byStatus[status.ordinal()]);
+        }
+        Map<Integer, Long> priorities = new LinkedHashMap<>();
+        for (int priority = 1; priority <= MAX_PRIORITY; priority++) {
+            priorities.put(priority, byPriority[priority]);
+        }
+        long overdue = 0;
+        for (int count : openDeadlines.headMap(now, false).values()) {
+            overdue += count;
+        }
+        return new TaskBoardView(eventId, tasks.size(), statuses, priorities, estimatedHours, actualHours, overdue, now);
+    }
+
+    synchronized void markPublished(LocalDateTime now) {
+        publishedAt = now;
+    }
+
+    private void add(TaskFacts facts, int sign) {
+        if (facts.status() != null) {
+            byStatus[facts.status().ordinal()] += sign;
+        }
+        Integer priority = facts.priority();
+        if (priority != null && priority >= 1 && priority <= MAX_PRIORITY) {
+            byPriority[priority] += sign;
+        }
+        if (facts.estimatedHours() != null) {
+            estimatedHours += sign * (long) facts.estimatedHours();
+        }
+        if (facts.actualHours() != null) {
+            actualHours += sign * (long) facts.actualHours();
+        }
+        if (facts.open() && facts.deadline() != null) {
+            openDeadlines.merge(facts.deadline(), sign, (a, b) -> a + b == 0 ? null : a + b);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package aura.event_based_task.board;
+
+import aura.event_based_task.broadcast.BroadcastEvent;
+import aura.event_based_task.domain.EventChangedEvent;
+import aura.event_based_task.domain.TaskChangedEvent;
+import aura.event_based_task.dto.TaskBoardView;
+import aura.event_based_task.repository.TaskRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-event task board counters (status and priority histograms, hour sums, overdue count)
+ * so clients no longer download every task to compute them.
+ *
+ * <p>A board is built from the database the first time it is asked for, then kept current by
+ * committed {@link TaskChangedEvent}s. The build runs inside the cache's atomic compute, so a
+ * change committing meanwhile waits for the board and is applied on top of it; because
+ * applying a change is idempotent, it does not matter whether the load already saw it.
+ * Changes for boards that are not loaded are ignored. Boards are rebuilt after
+ * {@code app.board.max-age} to pick up writes made by other instances.
+ *
+ * <p>Changed boards are pushed to {@code /topic/tasks/board/{eventId}} at most once per
+ * {@code app.board.push-interval-ms}, which coalesces a batch of task changes into one
+ * message. A board is also pushed when one of its deadlines passes, since that moves the
+ * overdue count without any task changing.
+ */
+@Component
+public class TaskBoardAggregates {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskBoardAggregates.class);
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration maxAge;
+    private final Cache<Long, TaskBoard> boards;
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public TaskBoardAggregates(TaskRepository taskRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${app.board.max-boards:10000}") long maxBoards,
+                               @Value("${app.board.idle-timeout:1h}") Duration idleTimeout,
+                               @Value("${app.board.max-age:10m}") Duration maxAge) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        // Deliberately not read-only: a lagging replica could miss a change whose delta was dropped
+        // because the board was not loaded yet.
+        this.transactionTemplate = transactionTemplate;
+        this.maxAge = maxAge;
+        this.boards = Caffeine.newBuilder()
+                .maximumSize(maxBoards)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    public TaskBoardView get(Long eventId, boolean rebuild) {
+        LocalDateTime now = LocalDateTime.now();
+        TaskBoard board = boards.getIfPresent(eventId);
+        if (rebuild || (board != null && board.loadedAt().plus(maxAge).isBefore(now))) {
+            boards.invalidate(eventId);
+        }
+        return boards.get(eventId, this::load).view(now);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(TaskChangedEvent change) {
+        boards.asMap().computeIfPresent(change.eventId(), (eventId, board) -> {
+            if (change.type() == TaskChangedEvent.Type.DELETED) {
+                board.remove(change.taskId());
+            } else {
+                board.put(TaskFacts.from(change));
+            }
+            dirty.add(eventId);
+            return board;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.type() == EventChangedEvent.Type.DELETED) {
+            boards.invalidate(change.eventId());
+            dirty.remove(change.eventId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.push-interval-ms:1000}")
+    public void publishChanged() {
+        LocalDateTime now = LocalDateTime.now();
+        boards.asMap().values().forEach(board -> {
+            boolean changed = dirty.remove(board.eventId());
+            if (changed || board.overdueChangedSincePublished(now)) {
+                board.markPublished(now);
+                eventPublisher.publishEvent(new BroadcastEvent("/topic/tasks/board/" + board.eventId(), board.view(now)));
+            }
+        });
+        // Dirty marks for boards evicted since they were set.
+        dirty.retainAll(boards.asMap().keySet());
+    }
+
+    private TaskBoard load(Long eventId) {
+        long start = System.nanoTime();
+        TaskBoard board = transactionTemplate.execute(status ->
+                new TaskBoard(eventId, taskRepository.findBoardFacts(eventId), LocalDateTime.now()));
+        logger.debug("Built task board for event {} in {} ms", eventId, (System.nanoTime() - start) / 1_000_000);
+        return board;
+    }
+}
@@ -0,0 +1,20 @@
+package aura.event_based_task.board;
+
+import aura.event_based_task.domain.TaskChangedEvent;
+import aura.event_based_task.model.ETaskStatus;
+
+import java.time.LocalDateTime;
+
+// The columns of one task that feed its event's board counters.
+public record TaskFacts(Long taskId, ETaskStatus status, Integer priority, Integer estimatedHours,
+                        Integer actualHours, LocalDateTime deadline) {
+
+    public static TaskFacts from(TaskChangedEvent change) {
+        return new TaskFacts(change.taskId(), change.status(), change.priority(), change.estimatedHours(),
+                change.actualHours(), change.deadline());
+    }
+
+    boolean open() {
+        return status != ETaskStatus.DONE;
+    }
+}
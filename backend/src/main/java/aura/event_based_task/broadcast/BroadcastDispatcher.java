@@ -0,0 +1,123 @@
+package aura.event_based_task.broadcast;
+
+import aura.event_based_task.metrics.HotPathMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * After-commit outbox for WebSocket broadcasts. The commit callback only enqueues; a single
+ * worker thread drains the queue in batches, serializes each payload once and hands the bytes
+ * to the broker, so neither serialization nor fan-out runs while a request holds a database
+ * connection, and rolled-back changes are never broadcast.
+ *
+ * <p>Events published outside a transaction are dispatched immediately
+ * ({@code fallbackExecution}). The queue is in memory: broadcasts still queued when the
+ * process dies are lost, which clients tolerate because they refetch on reconnect.
+ */
+@Component
+public class BroadcastDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(BroadcastDispatcher.class);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final HotPathMetrics metrics;
+    private final BlockingQueue<BroadcastEvent> queue;
+    private final int batchSize;
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public BroadcastDispatcher(SimpMessagingTemplate messagingTemplate,
+                               ObjectMapper objectMapper,
+                               HotPathMetrics metrics,
+                               @Value("${app.broadcast.queue-capacity:10000}") int queueCapacity,
+                               @Value("${app.broadcast.batch-size:100}") int batchSize) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    void start() {
+        metrics.gauge(HotPathMetrics.BROADCAST_QUEUE, queue, BlockingQueue::size);
+        worker = new Thread(this::drainLoop, "broadcast-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        // Deliver what was committed before shutdown while the broker is still up.
+        List<BroadcastEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(this::send);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBroadcast(BroadcastEvent event) {
+        if (!queue.offer(event)) {
+            logger.warn("Broadcast queue full, dropping message for {}", event.destination());
+            metrics.broadcastDropped(event.destination());
+        }
+    }
+
+    private void drainLoop() {
+        List<BroadcastEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                BroadcastEvent first = queue.take();
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                metrics.broadcastBatch(batch.size());
+                batch.forEach(this::send);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                logger.error("Broadcast batch failed", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(BroadcastEvent event) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(event.payload());
+        } catch (JsonProcessingException ex) {
+            logger.error("Could not serialize broadcast for {}", event.destination(), ex);
+            return;
+        }
+        // Pre-serialized bytes with a content type pass through the message converter untouched,
+        // so every subscriber receives the same buffer.
+        metrics.broadcast(event.destination(), () -> messagingTemplate.send(event.destination(),
+                MessageBuilder.withPayload(body)
+                        .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                        .build()));
+    }
+}
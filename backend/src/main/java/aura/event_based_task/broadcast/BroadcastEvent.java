@@ -0,0 +1,11 @@
+package aura.event_based_task.broadcast;
+
+/**
+ * A WebSocket broadcast requested by a mutation. Published through the
+ * {@code ApplicationEventPublisher} inside the transaction and delivered by
+ * {@link BroadcastDispatcher} only once that transaction commits. The payload must be a
+ * detached snapshot (a DTO, id or map), never a managed entity: it is serialized on another
+ * thread after the persistence context has closed.
+ */
+public record BroadcastEvent(String destination, Object payload) {
+}
@@ -0,0 +1,121 @@
+package aura.event_based_task.bulkimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV with a header row naming the request fields (name, description, date, ...).
+ * Quoted fields may contain commas, doubled quotes and line breaks. Empty cells are left out
+ * of the row, so the request's defaults apply.
+ */
+public class CsvRowSource implements RowSource {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final int maxFieldLength;
+    private final List<String> header;
+    // Physical line the reader is on; a record starts on the line after the previous one ended.
+    private long line = 1;
+
+    public CsvRowSource(BufferedReader reader, ObjectMapper objectMapper, int maxFieldLength) throws IOException {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.maxFieldLength = maxFieldLength;
+        List<String> names = readRecord();
+        if (names == null) {
+            throw new ImportFormatException("The CSV input is empty");
+        }
+        List<String> trimmed = new ArrayList<>(names.size());
+        for (String name : names) {
+            trimmed.add(name.replace("\uFEFF", "").trim());
+        }
+        this.header = trimmed;
+    }
+
+    @Override
+    public Row next() throws IOException {
+        while (true) {
+            long start = line;
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            if (fields.size() != header.size()) {
+                return new Row(start, null, "Expected " + header.size() + " columns, found " + fields.size());
+            }
+            ObjectNode values = objectMapper.createObjectNode();
+            for (int i = 0; i < fields.size(); i++) {
+                String value = fields.get(i).trim();
+                if (!value.isEmpty()) {
+                    values.put(header.get(i), value);
+                }
+            }
+            return new Row(start, values, null);
+        }
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            if (field.length() > maxFieldLength) {
+                throw new ImportFormatException("Line " + line + ": field longer than " + maxFieldLength + " characters");
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        if (quoted) {
+            throw new ImportFormatException("Line " + line + ": unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
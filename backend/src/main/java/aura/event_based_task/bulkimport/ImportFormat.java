@@ -0,0 +1,36 @@
+package aura.event_based_task.bulkimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+public enum ImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final MediaType mediaType;
+
+    ImportFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for (ImportFormat format : values()) {
+                if (format.mediaType.isCompatibleWith(requested)) {
+                    return format;
+                }
+            }
+        }
+        throw new ImportFormatException("Unsupported content type " + contentType + "; use text/csv or application/x-ndjson");
+    }
+
+    public RowSource open(BufferedReader reader, ObjectMapper objectMapper, int maxFieldLength) throws IOException {
+        return this == CSV
+                ? new CsvRowSource(reader, objectMapper, maxFieldLength)
+                : new NdjsonRowSource(reader, objectMapper, maxFieldLength);
+    }
+}
@@ -0,0 +1,9 @@
+package aura.event_based_task.bulkimport;
+
+// An IllegalStateException so that, outside a running job, GlobalExceptionHandler answers 400.
+public class ImportFormatException extends IllegalStateException {
+
+    public ImportFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,53 @@
+package aura.event_based_task.bulkimport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+// One JSON object per line; a malformed line is reported and skipped, blank lines are ignored.
+public class NdjsonRowSource implements RowSource {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final int maxLineLength;
+    private long line;
+
+    public NdjsonRowSource(BufferedReader reader, ObjectMapper objectMapper, int maxLineLength) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.maxLineLength = maxLineLength;
+    }
+
+    @Override
+    public Row next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            if (text.length() > maxLineLength) {
+                return new Row(line, null, "Line longer than " + maxLineLength + " characters");
+            }
+            try {
+                JsonNode node = objectMapper.readTree(text);
+                if (!(node instanceof ObjectNode object)) {
+                    return new Row(line, null, "Expected a JSON object");
+                }
+                return new Row(line, object, null);
+            } catch (JsonProcessingException ex) {
+                return new Row(line, null, "Malformed JSON: " + ex.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
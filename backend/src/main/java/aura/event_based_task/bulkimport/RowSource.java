@@ -0,0 +1,20 @@
+package aura.event_based_task.bulkimport;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads an upload one row at a time, so an import never holds more than the current chunk.
+ * A row that cannot be parsed comes back with an error instead of values; the source stays
+ * usable. Errors that leave the rest of the input unreadable are thrown as {@link ImportFormatException}.
+ */
+public interface RowSource extends Closeable {
+
+    record Row(long line, ObjectNode values, String error) {
+    }
+
+    /** The next row, or null at the end of the input. */
+    Row next() throws IOException;
+}
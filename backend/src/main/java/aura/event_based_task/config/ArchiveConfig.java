@@ -0,0 +1,50 @@
+package aura.event_based_task.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.archive")
+public class ArchiveConfig {
+    private boolean enabled = true;
+    // Events whose date is further back than this move to the archive.
+    private Duration retention = Duration.ofDays(90);
+    // Events archived per transaction.
+    private int batchSize = 20;
+    // Upper bound per run, so a first run on a large backlog does not hold the scheduler for hours.
+    private int maxEventsPerRun = 2000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxEventsPerRun() {
+        return maxEventsPerRun;
+    }
+
+    public void setMaxEventsPerRun(int maxEventsPerRun) {
+        this.maxEventsPerRun = maxEventsPerRun;
+    }
+}
@@ -1,6 +1,8 @@
 package aura.event_based_task.config;
 
+import aura.event_based_task.metrics.HotPathMetrics;
 import aura.event_based_task.security.JwtTokenProvider;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -23,6 +25,9 @@ public class AuthChannelInterceptor implements ChannelInterceptor {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private HotPathMetrics metrics;
+
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
@@ -30,7 +35,7 @@ public class AuthChannelInterceptor implements ChannelInterceptor {
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
             String token = resolveToken(accessor);
 
-            if (token != null && tokenProvider.validateJwtToken(token)) {
+            if (token != null && isValid(token)) {
                 String username = tokenProvider.getUserNameFromJwtToken(token);
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
@@ -44,6 +49,13 @@ public class AuthChannelInterceptor implements ChannelInterceptor {
         return message;
     }
 
+    private boolean isValid(String token) {
+        Timer.Sample sample = metrics.start();
+        boolean valid = tokenProvider.validateJwtToken(token);
+        metrics.stop(sample, HotPathMetrics.JWT_VALIDATION, "channel", "stomp", "outcome", valid ? "valid" : "invalid");
+        return valid;
+    }
+
     private String resolveToken(StompHeaderAccessor accessor) {
         String bearerToken = accessor.getFirstNativeHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
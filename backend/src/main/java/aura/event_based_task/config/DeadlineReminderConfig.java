@@ -0,0 +1,68 @@
+package aura.event_based_task.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.deadlines")
+public class DeadlineReminderConfig {
+    private boolean enabled = true;
+    // "Due soon" fires this long before the deadline.
+    private Duration dueSoonLead = Duration.ofHours(2);
+    // Each load pulls the reminders that fire within the next window into the wheel.
+    private Duration loadWindow = Duration.ofMinutes(15);
+    // After a restart, deadlines missed up to this far back still get their overdue reminder.
+    private Duration overdueLookback = Duration.ofHours(24);
+    private long tickMs = 1000;
+    private int wheelSize = 60;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getDueSoonLead() {
+        return dueSoonLead;
+    }
+
+    public void setDueSoonLead(Duration dueSoonLead) {
+        this.dueSoonLead = dueSoonLead;
+    }
+
+    public Duration getLoadWindow() {
+        return loadWindow;
+    }
+
+    public void setLoadWindow(Duration loadWindow) {
+        this.loadWindow = loadWindow;
+    }
+
+    public Duration getOverdueLookback() {
+        return overdueLookback;
+    }
+
+    public void setOverdueLookback(Duration overdueLookback) {
+        this.overdueLookback = overdueLookback;
+    }
+
+    public long getTickMs() {
+        return tickMs;
+    }
+
+    public void setTickMs(long tickMs) {
+        this.tickMs = tickMs;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+}
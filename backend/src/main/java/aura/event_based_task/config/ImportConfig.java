@@ -0,0 +1,39 @@
+package aura.event_based_task.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.import")
+public class ImportConfig {
+    // Rows inserted per transaction.
+    private int chunkSize = 500;
+    // Rejected rows listed in the report; later rejections are only counted.
+    private int maxErrors = 1000;
+    // Longest CSV field or NDJSON line accepted.
+    private int maxFieldLength = 10_000;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    public void setMaxErrors(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public int getMaxFieldLength() {
+        return maxFieldLength;
+    }
+
+    public void setMaxFieldLength(int maxFieldLength) {
+        this.maxFieldLength = maxFieldLength;
+    }
+}
@@ -0,0 +1,37 @@
+package aura.event_based_task.config;
+
+import io.micrometer.core.instrument.Tag;
+import org.springframework.boot.actuate.metrics.cache.CacheMetricsRegistrar;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.util.List;
+
+@Configuration
+public class MetricsConfig {
+
+    // Caches created on first use by CaffeineCacheManager are not known when Spring Boot
+    // binds cache metrics at startup, so we create and bind them explicitly.
+    private static final List<String> MONITORED_CACHES = List.of("events");
+
+    private final CacheManager cacheManager;
+    private final CacheMetricsRegistrar cacheMetricsRegistrar;
+
+    public MetricsConfig(CacheManager cacheManager, CacheMetricsRegistrar cacheMetricsRegistrar) {
+        this.cacheManager = cacheManager;
+        this.cacheMetricsRegistrar = cacheMetricsRegistrar;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bindCacheMetrics() {
+        for (String name : MONITORED_CACHES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cacheMetricsRegistrar.bindCacheToRegistry(cache, Tag.of("cacheManager", "cacheManager"));
+            }
+        }
+    }
+}
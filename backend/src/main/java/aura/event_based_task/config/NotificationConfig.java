@@ -0,0 +1,123 @@
+package aura.event_based_task.config;
+
+import aura.event_based_task.notification.InMemoryMailSender;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.time.Duration;
+
+/**
+ * Settings for the notification digest pipeline. With {@code mail-stub} on, digests go to an
+ * in-process {@link InMemoryMailSender} instead of SMTP, which replaces the auto-configured
+ * sender (it only backs off when no MailSender bean exists).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.notifications")
+public class NotificationConfig {
+    private boolean enabled = true;
+    private Duration digestWindow = Duration.ofMinutes(5);
+    private int recipientsPerPoll = 100;
+    private int senderThreads = 2;
+    private int senderQueueCapacity = 50;
+    private int maxAttempts = 5;
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofMinutes(30);
+    private Duration claimTimeout = Duration.ofMinutes(5);
+    private String from = "no-reply@event-collab.local";
+
+    @Bean
+    @ConditionalOnProperty(name = "app.notifications.mail-stub", havingValue = "true")
+    public JavaMailSender inMemoryMailSender() {
+        return new InMemoryMailSender();
+    }
+
+    // Exponential backoff: initial, 2x, 4x ... capped at maxBackoff.
+    public Duration backoffFor(int attempts) {
+        long factor = 1L << Math.min(Math.max(attempts - 1, 0), 20);
+        Duration backoff = initialBackoff.multipliedBy(factor);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getDigestWindow() {
+        return digestWindow;
+    }
+
+    public void setDigestWindow(Duration digestWindow) {
+        this.digestWindow = digestWindow;
+    }
+
+    public int getRecipientsPerPoll() {
+        return recipientsPerPoll;
+    }
+
+    public void setRecipientsPerPoll(int recipientsPerPoll) {
+        this.recipientsPerPoll = recipientsPerPoll;
+    }
+
+    public int getSenderThreads() {
+        return senderThreads;
+    }
+
+    public void setSenderThreads(int senderThreads) {
+        this.senderThreads = senderThreads;
+    }
+
+    public int getSenderQueueCapacity() {
+        return senderQueueCapacity;
+    }
+
+    public void setSenderQueueCapacity(int senderQueueCapacity) {
+        this.senderQueueCapacity = senderQueueCapacity;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public Duration getClaimTimeout() {
+        return claimTimeout;
+    }
+
+    public void setClaimTimeout(Duration claimTimeout) {
+        this.claimTimeout = claimTimeout;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public void setFrom(String from) {
+        this.from = from;
+    }
+}
@@ -0,0 +1,45 @@
+package aura.event_based_task.config;
+
+import aura.event_based_task.metrics.QueryCountingStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.query-budget")
+public class QueryBudgetConfig {
+    private boolean enabled = true;
+    private int maxStatements = 15;
+    private boolean captureCallSites = false;
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    public void setMaxStatements(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public boolean isCaptureCallSites() {
+        return captureCallSites;
+    }
+
+    public void setCaptureCallSites(boolean captureCallSites) {
+        this.captureCallSites = captureCallSites;
+    }
+}
@@ -73,9 +73,9 @@ public class SecurityConfig {
                         // Allow Swagger documentation endpoints
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/webjars/**").permitAll()
                         // Allow health check endpoints
-                        .requestMatchers("/actuator/health", "/actuator/info", "/actuator/prometheus").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info", "/actuator/prometheus").permitAll()
                         // Allow anyone to view events and tasks
-                        .requestMatchers(HttpMethod.GET, "/api/v1/events/**", "/api/v1/tasks/**", "/api/v1/events/{eventId}/is-member").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/events/**", "/api/v1/tasks/**", "/api/v1/events/{eventId}/is-member", "/api/v1/files/**").permitAll()
                         // This simplifies the rules and relies on @PreAuthorize for specific actions.
                         .anyRequest().authenticated()
                 );
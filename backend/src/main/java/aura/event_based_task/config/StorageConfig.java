@@ -3,10 +3,26 @@ package aura.event_based_task.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+// *** FIX: Prefix matched nothing; the properties are app.storage.*. ***
 @Configuration
-@ConfigurationProperties(prefix = "storage")
+@ConfigurationProperties(prefix = "app.storage")
 public class StorageConfig {
     private String uploadPath;
+    // Uploads in flight at once; each holds a request thread and a temp file.
+    private int maxConcurrentUploads = 4;
+    private Duration uploadWaitTimeout = Duration.ofSeconds(2);
+    // Stored names are unique per upload, so a file never changes once served.
+    private Duration cacheMaxAge = Duration.ofDays(30);
+    // Disk budget for resized variants; least recently served ones are evicted first.
+    private DataSize variantCacheMaxSize = DataSize.ofMegabytes(512);
+    private int thumbnailThreads = 2;
+    private int thumbnailQueueCapacity = 100;
+    // Unreferenced blobs are kept this long, covering the gap between upload and assignment.
+    private Duration gcGrace = Duration.ofHours(1);
 
     public String getUploadPath() {
         return uploadPath;
@@ -15,4 +31,60 @@ public class StorageConfig {
     public void setUploadPath(String uploadPath) {
         this.uploadPath = uploadPath;
     }
-}
\ No newline at end of file
+
+    public int getMaxConcurrentUploads() {
+        return maxConcurrentUploads;
+    }
+
+    public void setMaxConcurrentUploads(int maxConcurrentUploads) {
+        this.maxConcurrentUploads = maxConcurrentUploads;
+    }
+
+    public Duration getUploadWaitTimeout() {
+        return uploadWaitTimeout;
+    }
+
+    public void setUploadWaitTimeout(Duration uploadWaitTimeout) {
+        this.uploadWaitTimeout = uploadWaitTimeout;
+    }
+
+    public Duration getCacheMaxAge() {
+        return cacheMaxAge;
+    }
+
+    public void setCacheMaxAge(Duration cacheMaxAge) {
+        this.cacheMaxAge = cacheMaxAge;
+    }
+
+    public DataSize getVariantCacheMaxSize() {
+        return variantCacheMaxSize;
+    }
+
+    public void setVariantCacheMaxSize(DataSize variantCacheMaxSize) {
+        this.variantCacheMaxSize = variantCacheMaxSize;
+    }
+
+    public int getThumbnailThreads() {
+        return thumbnailThreads;
+    }
+
+    public void setThumbnailThreads(int thumbnailThreads) {
+        this.thumbnailThreads = thumbnailThreads;
+    }
+
+    public int getThumbnailQueueCapacity() {
+        return thumbnailQueueCapacity;
+    }
+
+    public void setThumbnailQueueCapacity(int thumbnailQueueCapacity) {
+        this.thumbnailQueueCapacity = thumbnailQueueCapacity;
+    }
+
+    public Duration getGcGrace() {
+        return gcGrace;
+    }
+
+    public void setGcGrace(Duration gcGrace) {
+        this.gcGrace = gcGrace;
+    }
+}
@@ -1,5 +1,6 @@
 package aura.event_based_task.config;
 
+import aura.event_based_task.metrics.QueryBudgetChannelInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 // *** NEW: Import for setting interceptor order ***
@@ -21,6 +22,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Autowired
     private AuthChannelInterceptor authChannelInterceptor;
 
+    @Autowired
+    private QueryBudgetChannelInterceptor queryBudgetChannelInterceptor;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.setApplicationDestinationPrefixes("/app");
@@ -38,6 +42,6 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureClientInboundChannel(ChannelRegistration registration) {
         // *** FIX: Explicitly set the interceptor to run before Spring's security interceptor. ***
         // This resolves the race condition by guaranteeing authentication happens first.
-        registration.interceptors(authChannelInterceptor);
+        registration.interceptors(authChannelInterceptor, queryBudgetChannelInterceptor);
     }
 }
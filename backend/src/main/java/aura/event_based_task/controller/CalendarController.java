@@ -0,0 +1,47 @@
+package aura.event_based_task.controller;
+
+import aura.event_based_task.dto.CalendarView;
+import aura.event_based_task.service.CalendarService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.security.Principal;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/calendar")
+@io.swagger.v3.oas.annotations.tags.Tag(name = "Calendar", description = "Per-user calendar views")
+public class CalendarController {
+
+    @Autowired private CalendarService calendarService;
+
+    @GetMapping
+    @io.swagger.v3.oas.annotations.Operation(
+        summary = "Get my calendar",
+        description = "The caller's events (recurring ones expanded) and their task deadlines between two dates, inclusive. "
+                + "Supports If-None-Match revalidation."
+    )
+    public ResponseEntity<CalendarView> getCalendar(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Principal principal, WebRequest webRequest) {
+        // Probe first: an unchanged calendar is answered with a 304 before any entry is loaded.
+        String etag = calendarService.etag(principal.getName(), from, to);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        CalendarView view = calendarService.getUserCalendar(principal.getName(), from, to);
+        // Private and always revalidated: switching back to a month costs a 304, not a payload.
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(view);
+    }
+}
@@ -1,5 +1,6 @@
 package aura.event_based_task.controller;
 
+import aura.event_based_task.metrics.HotPathMetrics;
 import aura.event_based_task.model.User;
 import aura.event_based_task.payload.ChatMessageDto;
 import aura.event_based_task.service.AuthService;
@@ -23,6 +24,7 @@ public class ChatController {
     @Autowired private ChatService chatService;
     @Autowired private AuthService authService;
     @Autowired private SimpMessagingTemplate messagingTemplate;
+    @Autowired private HotPathMetrics metrics;
 
     @MessageMapping("/chat.sendMessage/{eventId}")
     // *** FIX: Added Principal as a method argument. ***
@@ -45,7 +47,8 @@ public class ChatController {
 
             // The DTO now includes the sender's username, which is what the frontend expects
             ChatMessageDto broadcastMessage = new ChatMessageDto(sender.getUsername(), chatMessageDto.getContent());
-            messagingTemplate.convertAndSend("/topic/chat/" + eventId, broadcastMessage);
+            String destination = "/topic/chat/" + eventId;
+            metrics.broadcast(destination, () -> messagingTemplate.convertAndSend(destination, broadcastMessage));
 
             logger.debug("Message sent successfully by {} to event {}", sender.getUsername(), eventId);
         } catch (Exception e) {
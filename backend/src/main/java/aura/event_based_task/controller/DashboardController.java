@@ -0,0 +1,28 @@
+package aura.event_based_task.controller;
+
+import aura.event_based_task.dto.DashboardView;
+import aura.event_based_task.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@io.swagger.v3.oas.annotations.tags.Tag(name = "Dashboard", description = "Home page data in one request")
+public class DashboardController {
+
+    @Autowired private DashboardService dashboardService;
+
+    @GetMapping
+    @io.swagger.v3.oas.annotations.Operation(
+        summary = "Get my dashboard",
+        description = "The caller's events with task counts by status, open tasks assigned to them and upcoming deadlines"
+    )
+    public ResponseEntity<DashboardView> getDashboard(Principal principal) {
+        return ResponseEntity.ok(dashboardService.getDashboard(principal.getName()));
+    }
+}
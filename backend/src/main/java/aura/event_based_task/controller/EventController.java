@@ -1,17 +1,26 @@
 package aura.event_based_task.controller;
 
 import aura.event_based_task.dto.CreateEventRequest;
+import aura.event_based_task.dto.EventOccurrence;
+import aura.event_based_task.dto.FacetCounts;
 import aura.event_based_task.dto.PaginatedResponse;
 import aura.event_based_task.exception.ResourceNotFoundException;
+import aura.event_based_task.facet.EventTags;
+import aura.event_based_task.facet.TagMatch;
+import aura.event_based_task.fields.ResourceFieldSets;
 import aura.event_based_task.model.Event;
+import aura.event_based_task.model.EventPurge;
 import aura.event_based_task.model.User;
+import java.net.URI;
 import java.security.Principal;
 import aura.event_based_task.service.AuthService;
+import aura.event_based_task.service.CalendarService;
 import aura.event_based_task.service.EventService;
 import aura.event_based_task.service.UserService;
 import jakarta.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -19,6 +28,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -32,36 +44,74 @@ public class EventController {
     @Autowired private EventService eventService;
     @Autowired private AuthService authService;
     @Autowired private UserService userService;
+    @Autowired private CalendarService calendarService;
 
     @GetMapping
     @io.swagger.v3.oas.annotations.Operation(
         summary = "Get all events",
-        description = "Retrieve paginated list of events with optional filtering by category and search term"
+        description = "Retrieve paginated list of events with optional filtering by exact category, tags "
+                + "(comma-separated, tagMatch any or all) and search term"
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "200",
         description = "Successfully retrieved events"
     )
-    public ResponseEntity<PaginatedResponse<Event>> getAllEvents(
+    public ResponseEntity<PaginatedResponse<?>> getAllEvents(
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "10") int size,
             @RequestParam(value = "category", required = false) String category,
-            @RequestParam(value = "search", required = false) String search) {
-        PaginatedResponse<Event> events = eventService.getAllEvents(page, size, category, search);
-        return ResponseEntity.ok(events);
+            @RequestParam(value = "search", required = false) String search,
+            @RequestParam(value = "tags", required = false) String tags,
+            @RequestParam(value = "tagMatch", required = false) String tagMatch,
+            @RequestParam(value = "fields", required = false) String fields) {
+        Set<String> tagSet = EventTags.parse(tags);
+        TagMatch match = TagMatch.fromParam(tagMatch);
+        return ResponseEntity.ok(ResourceFieldSets.EVENTS.parse(fields)
+                .<PaginatedResponse<?>>map(writer -> eventService.getAllEvents(page, size, category, search, tagSet, match, writer))
+                .orElseGet(() -> eventService.getAllEvents(page, size, category, search, tagSet, match)));
+    }
+
+    @GetMapping("/facets")
+    @io.swagger.v3.oas.annotations.Operation(
+        summary = "Get event facets",
+        description = "Event counts per category and tag for the given category and tag filter"
+    )
+    public ResponseEntity<FacetCounts> getFacets(
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "tags", required = false) String tags,
+            @RequestParam(value = "tagMatch", required = false) String tagMatch) {
+        return ResponseEntity.ok(eventService.getFacets(category, EventTags.parse(tags), TagMatch.fromParam(tagMatch)));
     }
 
     @GetMapping("/my-events")
-    public ResponseEntity<Set<Event>> getMyEvents(Principal principal) {
+    public ResponseEntity<Collection<?>> getMyEvents(@RequestParam(value = "fields", required = false) String fields,
+                                                    Principal principal) {
         if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        return ResponseEntity.ok(eventService.getMyEvents(principal.getName()));
+        return ResponseEntity.ok(ResourceFieldSets.EVENTS.parse(fields)
+                .<Collection<?>>map(writer -> eventService.getMyEvents(principal.getName(), writer))
+                .orElseGet(() -> eventService.getMyEvents(principal.getName())));
+    }
+
+    @GetMapping("/calendar")
+    @io.swagger.v3.oas.annotations.Operation(
+        summary = "Get the event calendar",
+        description = "Every event occurrence between two dates (inclusive, at most 366 days), with recurring events expanded"
+    )
+    public ResponseEntity<List<EventOccurrence>> getCalendar(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(calendarService.getOccurrences(from, to));
     }
 
+    // ?fields=id,name,date selects only those columns; without it the full event is returned.
     @GetMapping("/{id}")
-    public ResponseEntity<Event> getEventById(@PathVariable Long id) {
-        return ResponseEntity.ok(eventService.getEventById(id));
+    public ResponseEntity<?> getEventById(@PathVariable Long id,
+                                          @RequestParam(value = "fields", required = false) String fields) {
+        return ResponseEntity.ok(ResourceFieldSets.EVENTS.parse(fields)
+                .<Object>map(writer -> eventService.getEventDetails(id, writer))
+                .orElseGet(() -> eventService.getEventDetails(id)));
     }
 
     @PostMapping
@@ -85,9 +135,20 @@ public class EventController {
 
     @DeleteMapping("/{eventId}")
     @PreAuthorize("hasPermission(#eventId, 'Event', 'ADMIN')")
-    public ResponseEntity<?> deleteEvent(@PathVariable Long eventId) {
-        eventService.deleteEvent(eventId);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<?> deleteEvent(@PathVariable Long eventId, Principal principal) {
+        eventService.deleteEvent(eventId, principal.getName());
+        // The event is gone for clients; its tasks and chat history are purged in the background.
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/events/" + eventId + "/purge"))
+                .build();
+    }
+
+    @GetMapping("/{eventId}/purge")
+    public ResponseEntity<EventPurge> getPurgeProgress(@PathVariable Long eventId, Principal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(eventService.getPurge(eventId, principal.getName()));
     }
 
     @PostMapping("/{eventId}/join")
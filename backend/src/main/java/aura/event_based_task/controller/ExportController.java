@@ -0,0 +1,98 @@
+package aura.event_based_task.controller;
+
+import aura.event_based_task.export.ExportDataset;
+import aura.event_based_task.export.ExportFormat;
+import aura.event_based_task.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/v1/events/{eventId}/export")
+@io.swagger.v3.oas.annotations.tags.Tag(name = "Exports", description = "Streaming exports of event data")
+public class ExportController {
+
+    private static final Object EXPORT_PERMIT_KEY = ExportController.class.getName() + ".permit";
+
+    @Autowired private ExportService exportService;
+
+    /**
+     * Streams an event's {@code tasks}, {@code members} or {@code chat} as NDJSON (default) or
+     * CSV. The body is gzip-encoded when the client accepts it.
+     */
+    @GetMapping("/{dataset}")
+    @PreAuthorize("hasPermission(#eventId, 'Event', 'MEMBER')")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable Long eventId,
+            @PathVariable String dataset,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            NativeWebRequest webRequest) {
+        ExportDataset exportDataset = ExportDataset.fromKey(dataset).orElse(null);
+        ExportFormat exportFormat = ExportFormat.fromKey(format).orElse(null);
+        if (exportDataset == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!exportService.tryAcquire()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "10").build();
+        }
+        // The body runs later on the async executor, or never if the client disconnects or the
+        // request times out first; the async lifecycle's afterCompletion fires in every case.
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable releasePermit = () -> {
+            if (released.compareAndSet(false, true)) {
+                exportService.release();
+            }
+        };
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(EXPORT_PERMIT_KEY,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                        releasePermit.run();
+                    }
+                });
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            try {
+                if (gzip) {
+                    // 64 KB of compressor buffer; finish() writes the trailer without closing the servlet stream.
+                    GZIPOutputStream compressed = new GZIPOutputStream(out, 65536);
+                    exportService.export(eventId, exportDataset, exportFormat, compressed);
+                    compressed.finish();
+                } else {
+                    exportService.export(eventId, exportDataset, exportFormat, out);
+                }
+            } finally {
+                releasePermit.run();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("event-" + eventId + "-" + exportDataset.key() + "." + exportFormat.getExtension())
+                        .build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
@@ -0,0 +1,150 @@
+package aura.event_based_task.controller;
+
+import aura.event_based_task.config.StorageConfig;
+import aura.event_based_task.exception.StorageException;
+import aura.event_based_task.service.EventService;
+import aura.event_based_task.service.StorageService;
+import aura.event_based_task.service.UserService;
+import aura.event_based_task.storage.ImageVariant;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/files")
+public class FileController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired private StorageService storageService;
+    @Autowired private StorageConfig storageConfig;
+    @Autowired private UserService userService;
+    @Autowired private EventService eventService;
+
+    // The body is parsed lazily, so the permission check runs before any upload bytes are read.
+    @PostMapping("/events/{eventId}/image")
+    @PreAuthorize("hasPermission(#eventId, 'Event', 'ADMIN')")
+    public ResponseEntity<Map<String, String>> uploadEventImage(@PathVariable Long eventId, HttpServletRequest request) {
+        StorageService.StoredFile stored = storageService.storeUpload(request, "file");
+        eventService.updateImageUrl(eventId, stored.url());
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("url", stored.url()));
+    }
+
+    @PostMapping("/avatar")
+    public ResponseEntity<Map<String, String>> uploadAvatar(HttpServletRequest request, Principal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        StorageService.StoredFile stored = storageService.storeUpload(request, "file");
+        userService.updateAvatarUrl(principal.getName(), stored.url());
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("url", stored.url()));
+    }
+
+    /**
+     * Serves a stored file, or with {@code size=thumb|small|medium} a resized variant of it,
+     * with ETag/Last-Modified revalidation and byte ranges. On Tomcat the body goes out through
+     * sendfile (FileChannel.transferTo from the page cache to the socket); elsewhere, and for
+     * multi-range requests, Spring writes the Resource as ResourceRegions.
+     */
+    @GetMapping("/{filename:.+}")
+    public ResponseEntity<Resource> download(@PathVariable String filename,
+                                             @RequestParam(value = "size", required = false) String size,
+                                             HttpServletRequest request, HttpServletResponse response,
+                                             WebRequest webRequest) throws IOException {
+        ImageVariant variant = size == null ? null : ImageVariant.fromKey(size)
+                .orElseThrow(() -> new StorageException(HttpStatus.BAD_REQUEST, "Unknown size '" + size + "'"));
+        StorageService.ServedFile served = storageService.resolve(filename, variant);
+        Path file = served.path();
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        // Content-addressed: the hash (plus variant) is a strong validator.
+        String etag = served.etag();
+
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return null;
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(file.getFileName().toString()).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        CacheControl cacheControl = served.immutable()
+                ? CacheControl.maxAge(storageConfig.getCacheMaxAge()).cachePublic().immutable()
+                : CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE));
+        } catch (IllegalArgumentException ex) {
+            return rangeNotSatisfiable(length);
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            ranges = List.of();
+        }
+
+        boolean sendfile = Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))
+                && !HttpMethod.HEAD.matches(request.getMethod());
+        if (!sendfile || ranges.size() > 1) {
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .lastModified(lastModified)
+                    .cacheControl(cacheControl)
+                    .contentType(mediaType)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .body(new FileSystemResource(file));
+        }
+
+        long start = 0;
+        long end = length - 1;
+        if (ranges.size() == 1) {
+            HttpRange range = ranges.get(0);
+            if (length == 0 || range.getRangeStart(length) >= length) {
+                return rangeNotSatisfiable(length);
+            }
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        response.setContentType(mediaType.toString());
+        response.setContentLengthLong(end - start + 1);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        request.setAttribute(SENDFILE_FILENAME, file.toString());
+        request.setAttribute(SENDFILE_START, start);
+        request.setAttribute(SENDFILE_END, end + 1);
+        return null;
+    }
+
+    private static ResponseEntity<Resource> rangeNotSatisfiable(long length) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package aura.event_based_task.controller;
+
+import aura.event_based_task.bulkimport.ImportFormat;
+import aura.event_based_task.dto.ImportJobReport;
+import aura.event_based_task.model.EImportTarget;
+import aura.event_based_task.model.ImportJob;
+import aura.event_based_task.service.BulkImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.List;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/v1/imports")
+@io.swagger.v3.oas.annotations.tags.Tag(name = "Imports", description = "Bulk import of events and tasks")
+public class ImportController {
+
+    @Autowired private BulkImportService importService;
+
+    /**
+     * Imports {@code events} or {@code tasks} from a CSV (with a header row) or NDJSON body. The
+     * body is read as it arrives; the response is the finished job's report. While a long import
+     * runs, its progress can be followed on {@code GET /api/v1/imports}.
+     */
+    @PostMapping(value = "/{target}", consumes = {"text/csv", "application/x-ndjson"})
+    @io.swagger.v3.oas.annotations.Operation(
+        summary = "Bulk import events or tasks",
+        description = "Streams CSV or NDJSON rows into batched inserts and returns a per-row error report"
+    )
+    public ResponseEntity<ImportJobReport> importRows(@PathVariable String target, HttpServletRequest request,
+                                                      Principal principal) throws IOException {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        EImportTarget importTarget;
+        try {
+            importTarget = EImportTarget.valueOf(target.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.notFound().build();
+        }
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+        ImportJobReport report = importService.runImport(importTarget, format, request.getInputStream(),
+                charset, principal.getName());
+        return ResponseEntity.created(URI.create("/api/v1/imports/" + report.job().getId())).body(report);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ImportJob>> getRecentJobs(Principal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(importService.getRecentJobs(principal.getName()));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobReport> getJob(@PathVariable Long jobId, Principal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(importService.getReport(jobId, principal.getName()));
+    }
+}
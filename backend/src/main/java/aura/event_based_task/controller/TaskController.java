@@ -1,11 +1,27 @@
 package aura.event_based_task.controller;
 
+import aura.event_based_task.dto.KeysetPage;
+import aura.event_based_task.dto.TaskBatchRequest;
+import aura.event_based_task.dto.TaskBatchResult;
+import aura.event_based_task.dto.TaskBoardView;
+import aura.event_based_task.dto.TaskDto;
+import aura.event_based_task.dto.TaskPatch;
+import aura.event_based_task.fields.ResourceFieldSets;
 import aura.event_based_task.model.Task;
+import aura.event_based_task.service.TaskBatchService;
+import aura.event_based_task.service.TaskQueryService;
 import aura.event_based_task.service.TaskService;
+import aura.event_based_task.taskquery.TaskSort;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 
@@ -16,9 +32,62 @@ public class TaskController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private TaskQueryService taskQueryService;
+
+    // ?fields=id,name,status selects only those columns; without it full tasks are returned.
     @GetMapping("/event/{eventId}")
-    public List<Task> getTasksByEvent(@PathVariable Long eventId) {
-        return taskService.findTasksByEventId(eventId);
+    public List<?> getTasksByEvent(@PathVariable Long eventId,
+                                   @RequestParam(value = "fields", required = false) String fields) {
+        return ResourceFieldSets.TASKS.parse(fields)
+                .<List<?>>map(writer -> taskService.findTasksByEventId(eventId, writer))
+                .orElseGet(() -> taskService.findTasksByEventId(eventId));
+    }
+
+    // Updates are pushed to /topic/tasks/board/{eventId}; rebuild=true recounts from the database.
+    @GetMapping("/event/{eventId}/board")
+    public TaskBoardView getBoard(@PathVariable Long eventId,
+                                  @RequestParam(value = "rebuild", defaultValue = "false") boolean rebuild) {
+        return taskService.getBoard(eventId, rebuild);
+    }
+
+    @GetMapping("/event/{eventId}/search")
+    @io.swagger.v3.oas.annotations.Operation(summary = "Filter and sort an event's tasks",
+            description = "status and priority take comma lists; assignee is a user id, 'me' or 'none'; "
+                    + "q matches name or description. Pass nextCursor back as cursor for the next page.")
+    public KeysetPage<TaskDto> searchTasks(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String assignee,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineTo,
+            @RequestParam(value = "q", required = false) String text,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Boolean descending = null;
+        if (direction != null && !direction.isBlank()) {
+            if (!direction.equalsIgnoreCase("asc") && !direction.equalsIgnoreCase("desc")) {
+                throw new IllegalStateException("direction must be asc or desc");
+            }
+            descending = direction.equalsIgnoreCase("desc");
+        }
+        return taskQueryService.search(eventId,
+                taskQueryService.filter(status, priority, assignee, deadlineFrom, deadlineTo, text),
+                TaskSort.fromParam(sort), descending, cursor, size);
+    }
+
+    @GetMapping("/{taskId}")
+    public Object getTask(@PathVariable Long taskId,
+                          @RequestParam(value = "fields", required = false) String fields) {
+        return ResourceFieldSets.TASKS.parse(fields)
+                .<Object>map(writer -> taskService.getTask(taskId, writer))
+                .orElseGet(() -> taskService.getTask(taskId));
     }
 
     // *** FIX: Updated the endpoint to accept eventId as a path variable. ***
@@ -27,6 +96,12 @@ public class TaskController {
         return taskService.createTask(task, eventId);
     }
 
+    // Many creates, updates and deletes for one event in one transaction and one broadcast.
+    @PostMapping("/batch")
+    public TaskBatchResult applyBatch(@Valid @RequestBody TaskBatchRequest request) {
+        return taskBatchService.apply(request);
+    }
+
     @PutMapping("/{taskId}")
     public ResponseEntity<Task> updateTask(@PathVariable Long taskId, @RequestBody Task taskDetails) {
         return taskService.updateTask(taskId, taskDetails)
@@ -34,6 +109,18 @@ public class TaskController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // JSON Merge Patch: only the fields present are changed. The edited version goes in If-Match
+    // (or "version" in the body); a stale one gets 409 with the current version, a missing one 428.
+    @PatchMapping(value = "/{taskId}", consumes = {TaskPatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<TaskDto> patchTask(@PathVariable Long taskId,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                             @RequestBody JsonNode patch) {
+        TaskDto task = taskService.patchTask(taskId, TaskPatch.parse(patch), parseVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag("\"" + task.getVersion() + "\"")
+                .body(task);
+    }
+
     @DeleteMapping("/{taskId}")
     public ResponseEntity<?> deleteTask(@PathVariable Long taskId) {
         if (taskService.deleteTask(taskId)) {
@@ -41,4 +128,21 @@ public class TaskController {
         }
         return ResponseEntity.notFound().build();
     }
+
+    // Accepts "3", W/"3" or a bare 3.
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException("If-Match must hold a task version");
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package aura.event_based_task.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Periodically measures replica lag and decides whether read-only transactions may use the
+ * replica. With no lag query configured the replica is considered usable whenever it answers.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+
+    private volatile boolean replicaUsable = true;
+    private volatile double lastLagSeconds;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, double maxLagSeconds) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        try (Connection connection = replica.getConnection()) {
+            double lag = measureLag(connection);
+            lastLagSeconds = lag;
+            update(lag <= maxLagSeconds, "lag " + lag + "s (tolerance " + maxLagSeconds + "s)");
+        } catch (SQLException ex) {
+            update(false, "check failed: " + ex.getMessage());
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public double getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    void markUnavailable() {
+        update(false, "connection failure");
+    }
+
+    private double measureLag(Connection connection) throws SQLException {
+        if (!StringUtils.hasText(lagQuery)) {
+            return connection.isValid(2) ? 0 : Double.MAX_VALUE;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            return resultSet.next() ? resultSet.getDouble(1) : 0;
+        }
+    }
+
+    private void update(boolean usable, String reason) {
+        if (usable != replicaUsable) {
+            if (usable) {
+                logger.info("Replica back in rotation: {}", reason);
+            } else {
+                logger.warn("Routing reads to primary, replica unusable: {}", reason);
+            }
+        }
+        replicaUsable = usable;
+    }
+}
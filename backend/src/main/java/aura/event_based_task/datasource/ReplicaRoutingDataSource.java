@@ -0,0 +1,59 @@
+package aura.event_based_task.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Sends connections for read-only transactions to the replica pool and everything else to
+ * the primary. Reads fall back to the primary while the replica lags too far behind or
+ * cannot hand out a connection.
+ *
+ * <p>Must be wrapped in a {@code LazyConnectionDataSourceProxy}: the JPA transaction manager
+ * asks for a connection before the read-only flag is bound to the thread.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.primary = primary;
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly && lagMonitor.isReplicaUsable() ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object route = determineCurrentLookupKey();
+        try {
+            return super.getConnection();
+        } catch (SQLException ex) {
+            if (route != Route.REPLICA) {
+                throw ex;
+            }
+            logger.warn("Replica connection failed, falling back to primary: {}", ex.getMessage());
+            lagMonitor.markUnavailable();
+            return primary.getConnection();
+        }
+    }
+}
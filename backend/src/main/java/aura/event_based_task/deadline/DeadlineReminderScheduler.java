@@ -0,0 +1,236 @@
+package aura.event_based_task.deadline;
+
+import aura.event_based_task.broadcast.BroadcastEvent;
+import aura.event_based_task.config.DeadlineReminderConfig;
+import aura.event_based_task.domain.TaskChangedEvent;
+import aura.event_based_task.model.ENotificationType;
+import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.model.Task;
+import aura.event_based_task.repository.TaskRepository;
+import aura.event_based_task.service.NotificationService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends "due soon" and "overdue" reminders for task deadlines without polling the tasks table.
+ *
+ * <p>Every {@code load-window} the loader pulls the reminders that fire before the next horizon
+ * (one range scan on the deadline index) into a {@link HierarchicalTimingWheel}; a ticker thread
+ * advances the wheel and fires what comes due. Committed task changes reschedule that task's
+ * timers directly. Each reminder is recorded in task_deadline_reminders before it goes out, so
+ * the catch-up load after a restart never sends the same reminder twice.
+ */
+@Component
+public class DeadlineReminderScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineReminderScheduler.class);
+
+    private record Reminder(Long taskId, Long eventId, LocalDateTime deadline, ENotificationType type) {
+    }
+
+    private final TaskRepository taskRepository;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    // REQUIRES_NEW: onTaskChanged runs after commit, where a joined transaction would never commit again.
+    private final TransactionTemplate fireTransaction;
+    private final DeadlineReminderConfig config;
+
+    private final HierarchicalTimingWheel<Reminder> wheel;
+    private final Map<Long, List<HierarchicalTimingWheel.Timer<Reminder>>> timersByTask = new HashMap<>();
+    // Serializes loads with reschedules, so a change committed during a load is never lost.
+    private final Object loadLock = new Object();
+    private final ScheduledExecutorService executor;
+
+    // Every reminder firing before this instant has been put on the wheel.
+    private LocalDateTime horizon;
+
+    public DeadlineReminderScheduler(TaskRepository taskRepository,
+                                     NotificationService notificationService,
+                                     ApplicationEventPublisher eventPublisher,
+                                     TransactionTemplate transactionTemplate,
+                                     DeadlineReminderConfig config) {
+        this.taskRepository = taskRepository;
+        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
+        this.fireTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.fireTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.config = config;
+        this.wheel = new HierarchicalTimingWheel<>(config.getTickMs(), config.getWheelSize(), System.currentTimeMillis());
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "deadline-reminders-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        horizon = LocalDateTime.now().minus(config.getOverdueLookback());
+        long windowMs = config.getLoadWindow().toMillis();
+        executor.scheduleWithFixedDelay(this::loadNextWindow, 0, windowMs, TimeUnit.MILLISECONDS);
+        executor.scheduleAtFixedRate(this::tick, config.getTickMs(), config.getTickMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(TaskChangedEvent change) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        synchronized (loadLock) {
+            List<Reminder> due = new ArrayList<>();
+            synchronized (wheel) {
+                List<HierarchicalTimingWheel.Timer<Reminder>> existing = timersByTask.remove(change.taskId());
+                if (existing != null) {
+                    existing.forEach(HierarchicalTimingWheel.Timer::cancel);
+                }
+                if (horizon == null || change.type() == TaskChangedEvent.Type.DELETED
+                        || change.status() == ETaskStatus.DONE || change.deadline() == null) {
+                    return;
+                }
+                // Timers past the horizon are picked up by the load that reaches them.
+                TaskDeadline deadline = new TaskDeadline(change.taskId(), change.eventId(), change.deadline());
+                for (Reminder reminder : remindersFor(deadline)) {
+                    if (fireTime(reminder).isBefore(horizon)) {
+                        schedule(reminder, due);
+                    }
+                }
+            }
+            due.forEach(this::fireSafely);
+        }
+    }
+
+    private void loadNextWindow() {
+        try {
+            synchronized (loadLock) {
+                LocalDateTime from = horizon;
+                LocalDateTime to = LocalDateTime.now().plus(config.getLoadWindow());
+                // Overdue fires at the deadline, due-soon one lead earlier: the range covers both.
+                List<TaskDeadline> deadlines = taskRepository.findOpenDeadlinesBetween(from, to.plus(config.getDueSoonLead()));
+                List<Reminder> due = new ArrayList<>();
+                int scheduled = 0;
+                synchronized (wheel) {
+                    for (TaskDeadline deadline : deadlines) {
+                        for (Reminder reminder : remindersFor(deadline)) {
+                            LocalDateTime fireAt = fireTime(reminder);
+                            if (!fireAt.isBefore(from) && fireAt.isBefore(to)) {
+                                schedule(reminder, due);
+                                scheduled++;
+                            }
+                        }
+                    }
+                    horizon = to;
+                }
+                logger.debug("Loaded {} deadline reminders up to {}", scheduled, to);
+                due.forEach(this::fireSafely);
+            }
+        } catch (RuntimeException ex) {
+            logger.error("Loading deadline reminders failed", ex);
+        }
+    }
+
+    private void tick() {
+        List<Reminder> due = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advance(System.currentTimeMillis(), timer -> {
+                due.add(timer.getPayload());
+                forget(timer);
+            });
+        }
+        due.forEach(this::fireSafely);
+    }
+
+    // Caller holds the wheel lock. Reminders already due are collected to fire after unlocking.
+    private void schedule(Reminder reminder, List<Reminder> due) {
+        long fireAtMs = fireTime(reminder).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        int alreadyDue = due.size();
+        HierarchicalTimingWheel.Timer<Reminder> timer = wheel.schedule(fireAtMs, reminder, expired -> due.add(expired.getPayload()));
+        if (due.size() == alreadyDue) {
+            timersByTask.computeIfAbsent(reminder.taskId(), id -> new ArrayList<>()).add(timer);
+        }
+    }
+
+    private void forget(HierarchicalTimingWheel.Timer<Reminder> timer) {
+        List<HierarchicalTimingWheel.Timer<Reminder>> timers = timersByTask.get(timer.getPayload().taskId());
+        if (timers != null) {
+            timers.remove(timer);
+            if (timers.isEmpty()) {
+                timersByTask.remove(timer.getPayload().taskId());
+            }
+        }
+    }
+
+    private List<Reminder> remindersFor(TaskDeadline deadline) {
+        return List.of(
+                new Reminder(deadline.taskId(), deadline.eventId(), deadline.deadline(), ENotificationType.TASK_DUE_SOON),
+                new Reminder(deadline.taskId(), deadline.eventId(), deadline.deadline(), ENotificationType.TASK_OVERDUE));
+    }
+
+    private LocalDateTime fireTime(Reminder reminder) {
+        return reminder.type() == ENotificationType.TASK_DUE_SOON
+                ? reminder.deadline().minus(config.getDueSoonLead())
+                : reminder.deadline();
+    }
+
+    private void fireSafely(Reminder reminder) {
+        try {
+            fireTransaction.executeWithoutResult(status -> fire(reminder));
+        } catch (RuntimeException ex) {
+            logger.error("Deadline reminder {} for task {} failed", reminder.type(), reminder.taskId(), ex);
+        }
+    }
+
+    private void fire(Reminder reminder) {
+        Task task = taskRepository.findLiveById(reminder.taskId()).orElse(null);
+        // The wheel may hold a stale timer: the task was finished, deleted or moved in the meantime.
+        if (task == null || task.getStatus() == ETaskStatus.DONE || !Objects.equals(task.getDeadline(), reminder.deadline())) {
+            return;
+        }
+        if (reminder.type() == ENotificationType.TASK_DUE_SOON && !LocalDateTime.now().isBefore(reminder.deadline())) {
+            return;
+        }
+        String type = reminder.type().name();
+        if (taskRepository.isReminderSent(reminder.taskId(), type, reminder.deadline())) {
+            return;
+        }
+        taskRepository.recordReminderSent(reminder.taskId(), type, reminder.deadline(), LocalDateTime.now());
+        notificationService.taskDeadline(task, reminder.type());
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", reminder.type() == ENotificationType.TASK_DUE_SOON ? "DEADLINE_DUE_SOON" : "DEADLINE_OVERDUE");
+        payload.put("taskId", reminder.taskId());
+        payload.put("deadline", reminder.deadline().toString());
+        eventPublisher.publishEvent(new BroadcastEvent("/topic/tasks/" + reminder.eventId(), payload));
+        logger.info("Deadline reminder {} sent for task {}", type, reminder.taskId());
+    }
+}
@@ -0,0 +1,153 @@
+package aura.event_based_task.deadline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: O(1) insertion and cancellation, and time advances by ticks rather
+ * than by scanning every pending timer. The lowest level has {@code wheelSize} buckets of
+ * {@code tickMs}; a timer too far out for it goes to an overflow wheel whose tick is the whole
+ * span of the level below, created on demand. When an overflow bucket comes due, its timers
+ * cascade back down into finer buckets until they expire.
+ *
+ * <p>Not thread-safe; callers serialize access.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    public static final class Timer<T> {
+        private final long expirationMs;
+        private final T payload;
+        private boolean cancelled;
+
+        private Timer(long expirationMs, T payload) {
+            this.expirationMs = expirationMs;
+            this.payload = payload;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+
+        public long getExpirationMs() {
+            return expirationMs;
+        }
+
+        // Cancelled timers stay in their bucket and are dropped when it is drained.
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final Level root;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.root = new Level(tickMs, wheelSize, startMs);
+    }
+
+    /**
+     * Schedules a timer. Returns it, already expired, if its time has come; the caller fires it.
+     */
+    public Timer<T> schedule(long expirationMs, T payload, Consumer<Timer<T>> expired) {
+        Timer<T> timer = new Timer<>(expirationMs, payload);
+        if (root.add(timer)) {
+            size++;
+        } else {
+            expired.accept(timer);
+        }
+        return timer;
+    }
+
+    /**
+     * Moves the clock to {@code nowMs}, handing every timer that expires on the way to
+     * {@code expired}, in bucket order.
+     */
+    public void advance(long nowMs, Consumer<Timer<T>> expired) {
+        root.advance(nowMs, timer -> {
+            size--;
+            if (timer.isCancelled()) {
+                return;
+            }
+            if (root.add(timer)) {
+                size++;
+            } else {
+                expired.accept(timer);
+            }
+        });
+    }
+
+    // Includes cancelled timers that have not been drained yet.
+    public int size() {
+        return size;
+    }
+
+    private final class Level {
+        private final long tickMs;
+        private final int wheelSize;
+        private final long intervalMs;
+        private final List<List<Timer<T>>> buckets;
+        private long currentTimeMs;
+        private Level overflow;
+
+        private Level(long tickMs, int wheelSize, long startMs) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.intervalMs = tickMs * wheelSize;
+            this.currentTimeMs = startMs - (startMs % tickMs);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+        }
+
+        // False when the timer is already due at this level's resolution.
+        private boolean add(Timer<T> timer) {
+            long expiration = timer.expirationMs;
+            if (expiration < currentTimeMs + tickMs) {
+                return false;
+            }
+            if (expiration < currentTimeMs + intervalMs) {
+                buckets.get((int) ((expiration / tickMs) % wheelSize)).add(timer);
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level(intervalMs, wheelSize, currentTimeMs);
+            }
+            return overflow.add(timer);
+        }
+
+        private void advance(long nowMs, Consumer<Timer<T>> reinsert) {
+            // A long pause (GC, suspended host) skips whole rotations instead of ticking through them.
+            if (nowMs - currentTimeMs > intervalMs) {
+                List<Timer<T>> all = new ArrayList<>();
+                buckets.forEach(bucket -> {
+                    all.addAll(bucket);
+                    bucket.clear();
+                });
+                currentTimeMs = nowMs - (nowMs % tickMs);
+                all.forEach(reinsert);
+            }
+            while (currentTimeMs + tickMs <= nowMs) {
+                currentTimeMs += tickMs;
+                drain(buckets.get((int) ((currentTimeMs / tickMs) % wheelSize)), reinsert);
+            }
+            if (overflow != null) {
+                overflow.advance(nowMs, reinsert);
+            }
+        }
+
+        private void drain(List<Timer<T>> bucket, Consumer<Timer<T>> reinsert) {
+            if (bucket.isEmpty()) {
+                return;
+            }
+            List<Timer<T>> due = new ArrayList<>(bucket);
+            bucket.clear();
+            due.forEach(reinsert);
+        }
+    }
+}
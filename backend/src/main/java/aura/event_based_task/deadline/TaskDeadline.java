@@ -0,0 +1,6 @@
+package aura.event_based_task.deadline;
+
+import java.time.LocalDateTime;
+
+public record TaskDeadline(Long taskId, Long eventId, LocalDateTime deadline) {
+}
@@ -0,0 +1,25 @@
+package aura.event_based_task.domain;
+
+import aura.event_based_task.facet.EventTags;
+import aura.event_based_task.model.Event;
+
+import java.util.Set;
+
+/**
+ * Published inside the transaction that creates or removes an event (user deletes, archival,
+ * imports). Carries the normalized category key and tags so in-memory indexes can update
+ * after commit without reading the event back.
+ */
+public record EventChangedEvent(Type type, Long eventId, String categoryKey, Set<String> tags) {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    public static EventChangedEvent created(Event event) {
+        return new EventChangedEvent(Type.CREATED, event.getId(), EventTags.categoryKey(event.getCategory()),
+                event.getTagIndex() == null ? Set.of() : Set.copyOf(event.getTagIndex()));
+    }
+
+    public static EventChangedEvent deleted(Long eventId) {
+        return new EventChangedEvent(Type.DELETED, eventId, null, Set.of());
+    }
+}
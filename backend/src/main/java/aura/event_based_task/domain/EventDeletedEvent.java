@@ -0,0 +1,8 @@
+package aura.event_based_task.domain;
+
+/**
+ * Published by {@code EventService} in the transaction that soft-deletes an event. The purger
+ * picks it up after commit and removes the event's children in the background.
+ */
+public record EventDeletedEvent(Long eventId) {
+}
@@ -0,0 +1,24 @@
+package aura.event_based_task.domain;
+
+import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.model.Task;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by {@code TaskService} inside the transaction of every task mutation. Listeners
+ * that keep derived state in memory subscribe with {@code @TransactionalEventListener} so they
+ * only see committed changes. Carries the task's state after the change, so a listener can
+ * replace what it held for the task without reading it back.
+ */
+public record TaskChangedEvent(Type type, Long taskId, Long eventId, ETaskStatus status, LocalDateTime deadline,
+                               Integer priority, Integer estimatedHours, Integer actualHours) {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    // The event id comes from the association's identifier, which never initializes a lazy proxy.
+    public static TaskChangedEvent of(Type type, Task task) {
+        return new TaskChangedEvent(type, task.getId(), task.getEvent().getId(), task.getStatus(), task.getDeadline(),
+                task.getPriority(), task.getEstimatedHours(), task.getActualHours());
+    }
+}
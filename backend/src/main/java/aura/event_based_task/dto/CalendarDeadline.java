@@ -0,0 +1,12 @@
+package aura.event_based_task.dto;
+
+import aura.event_based_task.model.ETaskStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+// A task deadline as a calendar shows it; read by constructor expression, not by loading tasks.
+public record CalendarDeadline(Long taskId, Long eventId, String name, ETaskStatus status, Integer priority,
+                               @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime deadline,
+                               String assignee) {
+}
@@ -0,0 +1,7 @@
+package aura.event_based_task.dto;
+
+import java.time.LocalDateTime;
+
+// Aggregates over the rows behind one part of a calendar view; any insert, delete, move or update changes one of them.
+public record CalendarStamp(Long rows, Long idSum, Long versionSum, LocalDateTime lastUpdated) {
+}
@@ -0,0 +1,13 @@
+package aura.event_based_task.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// One user's calendar for a date window: the events they belong to and the deadlines of those events' tasks.
+public record CalendarView(@JsonFormat(pattern = "yyyy-MM-dd") LocalDate from,
+                           @JsonFormat(pattern = "yyyy-MM-dd") LocalDate to,
+                           List<EventOccurrence> events,
+                           List<CalendarDeadline> deadlines) {
+}
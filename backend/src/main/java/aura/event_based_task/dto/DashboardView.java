@@ -0,0 +1,23 @@
+package aura.event_based_task.dto;
+
+import aura.event_based_task.model.ETaskStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// Everything the home page shows, in one payload.
+public record DashboardView(List<EventCard> events,
+                            Map<ETaskStatus, Long> taskTotals,
+                            List<TaskSummary> assignedToMe,
+                            List<TaskSummary> upcomingDeadlines) {
+
+    // nextDate is the next occurrence of a recurring event, or its date; null once a series has ended.
+    public record EventCard(Long id, String name,
+                            @JsonFormat(pattern = "yyyy-MM-dd") LocalDate date,
+                            @JsonFormat(pattern = "yyyy-MM-dd") LocalDate nextDate,
+                            String location, String category, boolean recurring,
+                            Map<ETaskStatus, Long> taskCounts) {
+    }
+}
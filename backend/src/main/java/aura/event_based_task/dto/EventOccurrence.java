@@ -0,0 +1,11 @@
+package aura.event_based_task.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+
+// One day an event takes place: the event itself for one-off events, one expansion of the rule for series.
+public record EventOccurrence(Long eventId,
+                              @JsonFormat(pattern = "yyyy-MM-dd") LocalDate date,
+                              String name, String location, String category, boolean recurring) {
+}
@@ -0,0 +1,7 @@
+package aura.event_based_task.dto;
+
+import java.util.Map;
+
+// Event counts per category key and per tag for a filter, most frequent first.
+public record FacetCounts(long total, Map<String, Long> categories, Map<String, Long> tags) {
+}
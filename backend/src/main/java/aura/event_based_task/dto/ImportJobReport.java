@@ -0,0 +1,10 @@
+package aura.event_based_task.dto;
+
+import aura.event_based_task.model.ImportError;
+import aura.event_based_task.model.ImportJob;
+
+import java.util.List;
+
+// A job's counters plus the rejected rows recorded so far, in line order.
+public record ImportJobReport(ImportJob job, List<ImportError> errors) {
+}
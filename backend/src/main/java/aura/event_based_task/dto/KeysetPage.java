@@ -0,0 +1,7 @@
+package aura.event_based_task.dto;
+
+import java.util.List;
+
+// A page of a keyset-paginated query; pass nextCursor back to get the following page.
+public record KeysetPage<T>(List<T> content, int size, String nextCursor, boolean hasNext) {
+}
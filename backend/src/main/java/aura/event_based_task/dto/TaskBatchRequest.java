@@ -0,0 +1,59 @@
+package aura.event_based_task.dto;
+
+import aura.event_based_task.model.ETaskStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Many task mutations against one event, applied together. Operations run in order. An UPDATE
+ * only changes the fields it sets; a null field is left as it is.
+ */
+@Data
+public class TaskBatchRequest {
+
+    public enum Op { CREATE, UPDATE, DELETE }
+
+    @NotNull(message = "Event ID is required")
+    private Long eventId;
+
+    @NotEmpty(message = "At least one operation is required")
+    @Valid
+    private List<Operation> operations;
+
+    @Data
+    public static class Operation {
+
+        @NotNull(message = "Operation type is required")
+        private Op op;
+
+        // Required for UPDATE and DELETE.
+        private Long taskId;
+
+        // Optional for UPDATE: the version being edited; a stale one fails the whole batch.
+        private Long version;
+
+        @Size(min = 3, max = 100, message = "Task name must be between 3 and 100 characters")
+        private String name;
+
+        @Size(max = 1000, message = "Task description must be less than 1000 characters")
+        private String description;
+
+        private ETaskStatus status;
+
+        @Min(value = 1, message = "Priority must be between 1 and 5")
+        @Max(value = 5, message = "Priority must be between 1 and 5")
+        private Integer priority;
+
+        private LocalDateTime deadline;
+
+        @Min(value = 1, message = "Estimated hours must be at least 1")
+        @Max(value = 1000, message = "Estimated hours cannot exceed 1000")
+        private Integer estimatedHours;
+
+        private Long assignedToUserId;
+    }
+}
@@ -0,0 +1,7 @@
+package aura.event_based_task.dto;
+
+import java.util.List;
+
+// The outcome of a batch; also the payload of its single broadcast frame.
+public record TaskBatchResult(Long eventId, List<TaskDto> created, List<TaskDto> updated, List<Long> deleted) {
+}
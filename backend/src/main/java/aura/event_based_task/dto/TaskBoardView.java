@@ -0,0 +1,22 @@
+package aura.event_based_task.dto;
+
+import aura.event_based_task.model.ETaskStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Task counters for one event's board. {@code byPriority} covers priorities 1 to 5; hours are
+ * sums over tasks that have them. {@code overdue} counts unfinished tasks past their deadline
+ * at {@code asOf}.
+ */
+public record TaskBoardView(Long eventId,
+                            int total,
+                            Map<ETaskStatus, Long> byStatus,
+                            Map<Integer, Long> byPriority,
+                            long estimatedHours,
+                            long actualHours,
+                            long overdue,
+                            @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime asOf) {
+}
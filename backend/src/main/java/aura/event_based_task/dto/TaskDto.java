@@ -1,13 +1,17 @@
 package aura.event_based_task.dto;
 
 import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.model.Task;
+import aura.event_based_task.model.User;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Data;
+import org.hibernate.Hibernate;
 import java.time.LocalDateTime;
 
 @Data
 public class TaskDto {
     private Long id;
+    private Long version;
     private String name;
     private String description;
     private ETaskStatus status;
@@ -37,4 +41,30 @@ public class TaskDto {
         this.eventId = eventId;
         this.eventName = eventName;
     }
-}
\ No newline at end of file
+
+    // Snapshot taken inside the transaction; safe to serialize after the session has closed.
+    public static TaskDto from(Task task) {
+        TaskDto dto = new TaskDto();
+        dto.setId(task.getId());
+        dto.setVersion(task.getVersion());
+        dto.setName(task.getName());
+        dto.setDescription(task.getDescription());
+        dto.setStatus(task.getStatus());
+        dto.setPriority(task.getPriority());
+        dto.setDeadline(task.getDeadline());
+        dto.setCreatedAt(task.getCreatedAt());
+        dto.setUpdatedAt(task.getUpdatedAt());
+        User assignee = task.getAssignedTo();
+        if (assignee != null) {
+            dto.setAssignedTo(new UserDto(assignee.getId(), assignee.getUsername()));
+        }
+        if (task.getEvent() != null) {
+            dto.setEventId(task.getEvent().getId());
+            // Don't trigger a lazy load just for the name.
+            if (Hibernate.isInitialized(task.getEvent())) {
+                dto.setEventName(task.getEvent().getName());
+            }
+        }
+        return dto;
+    }
+}
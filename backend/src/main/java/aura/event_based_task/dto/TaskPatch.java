@@ -0,0 +1,175 @@
+package aura.event_based_task.dto;
+
+import aura.event_based_task.model.ETaskStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A JSON Merge Patch (RFC 7396) for a task: a member that is present replaces the field, an
+ * explicit {@code null} clears it, and an absent member leaves it alone. Values are validated
+ * when the patch is parsed, before anything is loaded.
+ */
+public final class TaskPatch {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private static final Set<String> FIELDS = Set.of("version", "name", "description", "status", "priority",
+            "deadline", "estimatedHours", "actualHours", "assignedToUserId");
+
+    private final JsonNode body;
+
+    private TaskPatch(JsonNode body) {
+        this.body = body;
+    }
+
+    public static TaskPatch parse(JsonNode body) {
+        if (body == null || !body.isObject()) {
+            throw new IllegalStateException("A merge patch must be a JSON object");
+        }
+        Set<String> unknown = new TreeSet<>();
+        for (Iterator<String> names = body.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!FIELDS.contains(name)) {
+                unknown.add(name);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new IllegalStateException("Fields that cannot be patched: " + String.join(", ", unknown));
+        }
+        TaskPatch patch = new TaskPatch(body);
+        // Parse everything once so a bad value is rejected before the task is touched.
+        patch.version();
+        if (patch.has("name")) {
+            patch.name();
+        }
+        if (patch.has("description")) {
+            patch.description();
+        }
+        if (patch.has("status")) {
+            patch.status();
+        }
+        if (patch.has("priority")) {
+            patch.priority();
+        }
+        if (patch.has("deadline")) {
+            patch.deadline();
+        }
+        if (patch.has("estimatedHours")) {
+            patch.estimatedHours();
+        }
+        if (patch.has("actualHours")) {
+            patch.actualHours();
+        }
+        if (patch.has("assignedToUserId")) {
+            patch.assignedToUserId();
+        }
+        return patch;
+    }
+
+    public boolean has(String field) {
+        return body.has(field);
+    }
+
+    // The version the client edited, when sent in the body instead of If-Match.
+    public Long version() {
+        JsonNode value = body.get("version");
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        if (!value.canConvertToLong() || !value.isIntegralNumber()) {
+            throw new IllegalStateException("version must be an integer");
+        }
+        return value.longValue();
+    }
+
+    public String name() {
+        JsonNode value = body.get("name");
+        if (value == null || !value.isTextual() || value.asText().isBlank()) {
+            throw new IllegalStateException("name must be a non-empty string");
+        }
+        return value.asText();
+    }
+
+    public String description() {
+        JsonNode value = body.get("description");
+        if (value.isNull()) {
+            return null;
+        }
+        if (!value.isTextual()) {
+            throw new IllegalStateException("description must be a string or null");
+        }
+        return value.asText();
+    }
+
+    public ETaskStatus status() {
+        JsonNode value = body.get("status");
+        try {
+            if (value == null || !value.isTextual()) {
+                throw new IllegalArgumentException();
+            }
+            return ETaskStatus.valueOf(value.asText().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalStateException("status must be one of TO_DO, IN_PROGRESS, DONE");
+        }
+    }
+
+    public Integer priority() {
+        JsonNode value = body.get("priority");
+        if (value.isNull()) {
+            return null;
+        }
+        if (!value.isInt() || value.intValue() < 1 || value.intValue() > 5) {
+            throw new IllegalStateException("Priority must be between 1 and 5");
+        }
+        return value.intValue();
+    }
+
+    public LocalDateTime deadline() {
+        JsonNode value = body.get("deadline");
+        if (value.isNull()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.asText());
+        } catch (DateTimeParseException ex) {
+            throw new IllegalStateException("deadline must be an ISO date-time such as 2030-01-31T17:00:00");
+        }
+    }
+
+    public Integer estimatedHours() {
+        return hours("estimatedHours");
+    }
+
+    public Integer actualHours() {
+        return hours("actualHours");
+    }
+
+    // null unassigns the task.
+    public Long assignedToUserId() {
+        JsonNode value = body.get("assignedToUserId");
+        if (value.isNull()) {
+            return null;
+        }
+        if (!value.isIntegralNumber() || !value.canConvertToLong()) {
+            throw new IllegalStateException("assignedToUserId must be a user id or null");
+        }
+        return value.longValue();
+    }
+
+    private Integer hours(String field) {
+        JsonNode value = body.get(field);
+        if (value.isNull()) {
+            return null;
+        }
+        if (!value.isInt() || value.intValue() < 0) {
+            throw new IllegalStateException(field + " must be a non-negative integer or null");
+        }
+        return value.intValue();
+    }
+}
@@ -0,0 +1,6 @@
+package aura.event_based_task.dto;
+
+import aura.event_based_task.model.ETaskStatus;
+
+public record TaskStatusCount(Long eventId, ETaskStatus status, Long count) {
+}
@@ -2,6 +2,8 @@ package aura.event_based_task.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -57,6 +59,59 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ConflictErrorResponse> handleVersionConflictException(
+            VersionConflictException ex, WebRequest request) {
+        logger.warn("Version conflict: {}", ex.getMessage());
+
+        ConflictErrorResponse errorResponse = new ConflictErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.CONFLICT.value(),
+            "Version Conflict",
+            ex.getMessage(),
+            request.getDescription(false),
+            ex.getCurrentVersion()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .eTag("\"" + ex.getCurrentVersion() + "\"")
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionRequiredException(
+            PreconditionRequiredException ex, WebRequest request) {
+        logger.warn("Precondition required: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.PRECONDITION_REQUIRED.value(),
+            "Precondition Required",
+            ex.getMessage(),
+            request.getDescription(false)
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).body(errorResponse);
+    }
+
+    // Another transaction committed between our version check and our flush.
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ConflictErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, WebRequest request) {
+        logger.warn("Concurrent modification: {}", ex.getMessage());
+
+        ConflictErrorResponse errorResponse = new ConflictErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.CONFLICT.value(),
+            "Version Conflict",
+            "The resource was modified concurrently; reload it and retry",
+            request.getDescription(false),
+            null
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(
             AccessDeniedException ex, WebRequest request) {
@@ -153,6 +208,30 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.PAYLOAD_TOO_LARGE);
     }
 
+    @ExceptionHandler(StorageException.class)
+    public ResponseEntity<ErrorResponse> handleStorageException(
+            StorageException ex, WebRequest request) {
+        if (ex.getStatus().is5xxServerError()) {
+            logger.error("Storage error: {}", ex.getMessage(), ex.getCause());
+        } else {
+            logger.warn("Storage request rejected: {}", ex.getMessage());
+        }
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            ex.getStatus().value(),
+            ex.getStatus().getReasonPhrase(),
+            ex.getMessage(),
+            request.getDescription(false)
+        );
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(ex.getStatus());
+        if (ex.getStatus() == HttpStatus.SERVICE_UNAVAILABLE) {
+            response.header(HttpHeaders.RETRY_AFTER, "2");
+        }
+        return response.body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGlobalException(
             Exception ex, WebRequest request) {
@@ -205,4 +284,17 @@ public class GlobalExceptionHandler {
 
         public Map<String, String> getValidationErrors() { return validationErrors; }
     }
+
+    // Conflict response carrying the version the client has to reload
+    public static class ConflictErrorResponse extends ErrorResponse {
+        private final Long currentVersion;
+
+        public ConflictErrorResponse(LocalDateTime timestamp, int status, String error,
+                                     String message, String path, Long currentVersion) {
+            super(timestamp, status, error, message, path);
+            this.currentVersion = currentVersion;
+        }
+
+        public Long getCurrentVersion() { return currentVersion; }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package aura.event_based_task.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// A conditional write arrived without saying which version it was made against.
+@ResponseStatus(HttpStatus.PRECONDITION_REQUIRED)
+public class PreconditionRequiredException extends RuntimeException {
+
+    public PreconditionRequiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package aura.event_based_task.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class StorageException extends RuntimeException {
+    private final HttpStatus status;
+
+    public StorageException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public StorageException(HttpStatus status, String message, Throwable cause) {
+        super(message, cause);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
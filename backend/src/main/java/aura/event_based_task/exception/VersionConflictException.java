@@ -0,0 +1,20 @@
+package aura.event_based_task.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// The client edited an older version than the one stored; it should reload and reapply its change.
+@ResponseStatus(HttpStatus.CONFLICT)
+public class VersionConflictException extends RuntimeException {
+
+    private final Long currentVersion;
+
+    public VersionConflictException(String resourceName, Object id, Long expectedVersion, Long currentVersion) {
+        super(String.format("%s '%s' is at version %s, not %s", resourceName, id, currentVersion, expectedVersion));
+        this.currentVersion = currentVersion;
+    }
+
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
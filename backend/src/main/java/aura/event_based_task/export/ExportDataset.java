@@ -0,0 +1,53 @@
+package aura.event_based_task.export;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * What an event export can contain. Each query takes the event id as its only parameter and
+ * returns the columns in order; all of them walk an index on event_id.
+ */
+public enum ExportDataset {
+    TASKS(List.of("id", "name", "description", "status", "priority", "deadline", "estimatedHours",
+            "actualHours", "assignedTo", "createdBy", "createdAt", "updatedAt"),
+            "SELECT t.id, t.name, t.description, t.status, t.priority, t.deadline, t.estimated_hours, "
+                    + "t.actual_hours, a.username, c.username, t.created_at, t.updated_at FROM tasks t "
+                    + "LEFT JOIN users a ON a.id = t.assigned_to_user_id "
+                    + "LEFT JOIN users c ON c.id = t.created_by_user_id "
+                    + "WHERE t.event_id = ? ORDER BY t.id"),
+    MEMBERS(List.of("id", "username", "fullName"),
+            "SELECT u.id, u.username, u.full_name FROM event_members m JOIN users u ON u.id = m.user_id "
+                    + "WHERE m.event_id = ? ORDER BY u.username"),
+    CHAT(List.of("id", "sender", "content", "timestamp"),
+            "SELECT m.id, u.username, m.content, m.timestamp FROM chat_messages m JOIN users u ON u.id = m.sender_id "
+                    + "WHERE m.event_id = ? ORDER BY m.timestamp, m.id");
+
+    private final List<String> columns;
+    private final String sql;
+
+    ExportDataset(List<String> columns, String sql) {
+        this.columns = columns;
+        this.sql = sql;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static Optional<ExportDataset> fromKey(String key) {
+        try {
+            return Optional.of(valueOf(key.toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package aura.event_based_task.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static Optional<ExportFormat> fromKey(String key) {
+        try {
+            return Optional.of(valueOf(key.toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    public RowWriter open(OutputStream out, List<String> columns, ObjectMapper objectMapper) throws IOException {
+        return this == CSV ? new CsvRowWriter(out, columns) : new NdjsonRowWriter(out, columns, objectMapper);
+    }
+}
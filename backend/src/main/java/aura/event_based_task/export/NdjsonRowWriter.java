@@ -0,0 +1,44 @@
+package aura.event_based_task.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+// One JSON object per line, keyed by column name; null values are written as null.
+public class NdjsonRowWriter implements RowWriter {
+
+    private final JsonGenerator generator;
+    private final List<String> columns;
+
+    public NdjsonRowWriter(OutputStream out, List<String> columns, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.columns = columns;
+    }
+
+    @Override
+    public void write(Object... values) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < columns.size(); i++) {
+            generator.writeFieldName(columns.get(i));
+            Object value = values[i];
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof Number number) {
+                generator.writeNumber(number.toString());
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,15 @@
+package aura.event_based_task.export;
+
+import java.io.IOException;
+
+/**
+ * Writes export rows straight to the response stream. Values come in the column order given
+ * when the writer was opened; nothing is buffered beyond the underlying stream's buffer.
+ */
+public interface RowWriter {
+
+    void write(Object... values) throws IOException;
+
+    // Flushes the writer's own buffers; the caller owns and closes the stream.
+    void finish() throws IOException;
+}
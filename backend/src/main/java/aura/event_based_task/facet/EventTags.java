@@ -0,0 +1,52 @@
+package aura.event_based_task.facet;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The one place tags and categories are normalized, so that what is stored, what is filtered
+ * on and what the facet index counts always agree.
+ */
+public final class EventTags {
+
+    public static final int MAX_TAG_LENGTH = 50;
+
+    private EventTags() {
+    }
+
+    /** Splits a comma-separated list into trimmed, lower-case, distinct tags, keeping their order. */
+    public static Set<String> parse(String tags) {
+        if (tags == null || tags.isBlank()) {
+            return new LinkedHashSet<>();
+        }
+        return normalize(Arrays.asList(tags.split(",")));
+    }
+
+    public static Set<String> normalize(Collection<String> tags) {
+        return tags.stream()
+                .map(EventTags::normalizeTag)
+                .filter(tag -> !tag.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public static String join(Set<String> tags) {
+        return tags.isEmpty() ? null : String.join(",", tags);
+    }
+
+    /** Categories stay free text for display; filters and facets compare this key. */
+    public static String categoryKey(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        return category.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizeTag(String tag) {
+        String normalized = tag.trim().toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_TAG_LENGTH ? normalized.substring(0, MAX_TAG_LENGTH) : normalized;
+    }
+}
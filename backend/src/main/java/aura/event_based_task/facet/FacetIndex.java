@@ -0,0 +1,231 @@
+package aura.event_based_task.facet;
+
+import aura.event_based_task.domain.EventChangedEvent;
+import aura.event_based_task.dto.FacetCounts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Live events by category key and tag, held in memory so facet counts never run a GROUP BY.
+ * Committed changes arrive as {@link EventChangedEvent}s and update the postings in place.
+ * A periodic rebuild from the database picks up anything this instance did not see, such as
+ * writes made by other instances. Changes that commit while a rebuild is loading are queued
+ * and replayed onto the new index before it is swapped in. Applying a change is idempotent,
+ * so replaying one the load already saw is harmless.
+ */
+@Component
+public class FacetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(FacetIndex.class);
+
+    private record Entry(String category, Set<String> tags) {
+    }
+
+    private static final class State {
+        private final Map<Long, Entry> events = new HashMap<>();
+        private final Map<String, Set<Long>> byCategory = new HashMap<>();
+        private final Map<String, Set<Long>> byTag = new HashMap<>();
+
+        private void apply(EventChangedEvent change) {
+            remove(change.eventId());
+            if (change.type() != EventChangedEvent.Type.DELETED) {
+                put(change.eventId(), new Entry(change.categoryKey(), Set.copyOf(change.tags())));
+            }
+        }
+
+        private void put(Long eventId, Entry entry) {
+            events.put(eventId, entry);
+            if (entry.category() != null) {
+                byCategory.computeIfAbsent(entry.category(), key -> new HashSet<>()).add(eventId);
+            }
+            entry.tags().forEach(tag -> byTag.computeIfAbsent(tag, key -> new HashSet<>()).add(eventId));
+        }
+
+        private void remove(Long eventId) {
+            Entry entry = events.remove(eventId);
+            if (entry == null) {
+                return;
+            }
+            if (entry.category() != null) {
+                unlink(byCategory, entry.category(), eventId);
+            }
+            entry.tags().forEach(tag -> unlink(byTag, tag, eventId));
+        }
+
+        private static void unlink(Map<String, Set<Long>> postings, String key, Long eventId) {
+            Set<Long> ids = postings.get(key);
+            if (ids != null && ids.remove(eventId) && ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    // Non-null while a rebuild is loading.
+    private List<EventChangedEvent> pending;
+
+    @Value("${app.facets.max-values:100}")
+    private int maxValues;
+
+    public FacetIndex(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventChanged(EventChangedEvent change) {
+        lock.writeLock().lock();
+        try {
+            state.apply(change);
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.facets.rebuild-interval-ms:900000}",
+            initialDelayString = "${app.facets.rebuild-interval-ms:900000}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        long start = System.nanoTime();
+        State fresh = new State();
+        try {
+            Map<Long, String> categories = new HashMap<>();
+            Map<Long, Set<String>> tags = new HashMap<>();
+            jdbcTemplate.query("SELECT e.id, e.category, t.tag FROM events e "
+                            + "LEFT JOIN event_tags t ON t.event_id = e.id WHERE e.deleted_at IS NULL",
+                    Map.of(), rs -> {
+                        long id = rs.getLong(1);
+                        categories.put(id, EventTags.categoryKey(rs.getString(2)));
+                        Set<String> eventTags = tags.computeIfAbsent(id, key -> new HashSet<>());
+                        String tag = rs.getString(3);
+                        if (tag != null) {
+                            eventTags.add(tag);
+                        }
+                    });
+            tags.forEach((id, eventTags) -> fresh.put(id, new Entry(categories.get(id), Set.copyOf(eventTags))));
+        } catch (RuntimeException ex) {
+            logger.error("Facet index rebuild failed; keeping the current index", ex);
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            pending.forEach(fresh::apply);
+            state = fresh;
+            pending = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.debug("Facet index rebuilt: {} events, {} categories, {} tags in {} ms", fresh.events.size(),
+                fresh.byCategory.size(), fresh.byTag.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Counts for the events matching a category key and tag filter, both optional. Unfiltered
+     * counts are the posting sizes; filtered ones tally only the matching events.
+     */
+    public FacetCounts count(String categoryKey, Set<String> tags, TagMatch match) {
+        lock.readLock().lock();
+        try {
+            if (categoryKey == null && tags.isEmpty()) {
+                return new FacetCounts(state.events.size(), top(sizes(state.byCategory)), top(sizes(state.byTag)));
+            }
+            Map<String, Long> categoryCounts = new HashMap<>();
+            Map<String, Long> tagCounts = new HashMap<>();
+            Set<Long> matching = matching(categoryKey, tags, match);
+            for (Long eventId : matching) {
+                Entry entry = state.events.get(eventId);
+                if (entry.category() != null) {
+                    categoryCounts.merge(entry.category(), 1L, Long::sum);
+                }
+                entry.tags().forEach(tag -> tagCounts.merge(tag, 1L, Long::sum));
+            }
+            return new FacetCounts(matching.size(), top(categoryCounts), top(tagCounts));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<Long> matching(String categoryKey, Set<String> tags, TagMatch match) {
+        if (tags.isEmpty()) {
+            return state.byCategory.getOrDefault(categoryKey, Set.of());
+        }
+        Set<Long> ids;
+        if (match == TagMatch.ALL) {
+            // Intersect starting from the rarest tag.
+            List<Set<Long>> postings = new ArrayList<>();
+            for (String tag : tags) {
+                Set<Long> posting = state.byTag.get(tag);
+                if (posting == null) {
+                    return Set.of();
+                }
+                postings.add(posting);
+            }
+            postings.sort(Comparator.comparingInt(Set::size));
+            ids = new HashSet<>(postings.get(0));
+            postings.subList(1, postings.size()).forEach(ids::retainAll);
+        } else {
+            ids = new HashSet<>();
+            for (String tag : tags) {
+                ids.addAll(state.byTag.getOrDefault(tag, Set.of()));
+            }
+        }
+        if (categoryKey != null) {
+            ids.removeIf(id -> !categoryKey.equals(state.events.get(id).category()));
+        }
+        return ids;
+    }
+
+    private static Map<String, Long> sizes(Map<String, Set<Long>> postings) {
+        Map<String, Long> counts = new HashMap<>();
+        postings.forEach((key, ids) -> counts.put(key, (long) ids.size()));
+        return counts;
+    }
+
+    private Map<String, Long> top(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(maxValues)
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+}
@@ -0,0 +1,20 @@
+package aura.event_based_task.facet;
+
+import java.util.Locale;
+
+/** How a multi-tag filter combines its tags. */
+public enum TagMatch {
+    ANY,
+    ALL;
+
+    public static TagMatch fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return ANY;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalStateException("tagMatch must be 'any' or 'all'");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package aura.event_based_task.fields;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled field set: the ordered fields, their offsets in a projected row, and the JSON
+ * names already encoded. Built once per distinct field set by {@link ResourceFields} and
+ * reused for every row and request that asks for the same fields.
+ */
+public final class FieldSetWriter<T> {
+
+    private final Class<T> type;
+    private final List<ResourceField> fields;
+    private final int[] offsets;
+    private final int width;
+
+    FieldSetWriter(Class<T> type, List<ResourceField> fields) {
+        this.type = type;
+        this.fields = List.copyOf(fields);
+        this.offsets = new int[fields.size()];
+        int offset = 0;
+        for (int i = 0; i < fields.size(); i++) {
+            offsets[i] = offset;
+            offset += fields.get(i).width();
+        }
+        this.width = offset;
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    /** Number of columns a query for this field set selects. */
+    public int columns() {
+        return width;
+    }
+
+    public List<String> fieldNames() {
+        return fields.stream().map(ResourceField::name).toList();
+    }
+
+    public List<Selection<?>> selections(From<?, T> root) {
+        List<Selection<?>> selections = new ArrayList<>(width);
+        Map<String, Join<?, ?>> joins = new HashMap<>();
+        fields.forEach(field -> field.select(root, joins, selections));
+        return selections;
+    }
+
+    public SparseRow row(Object[] values) {
+        return new SparseRow(this, values);
+    }
+
+    /** Projects an already loaded entity, for sources that are not queried (archived snapshots). */
+    public SparseRow row(T entity) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+        Object[] values = new Object[width];
+        for (int i = 0; i < fields.size(); i++) {
+            fields.get(i).read(wrapper, values, offsets[i]);
+        }
+        return new SparseRow(this, values);
+    }
+
+    void write(JsonGenerator gen, Object[] values, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        for (int i = 0; i < fields.size(); i++) {
+            ResourceField field = fields.get(i);
+            gen.writeFieldName(field.jsonName());
+            field.write(gen, values, offsets[i], provider);
+        }
+        gen.writeEndObject();
+    }
+}
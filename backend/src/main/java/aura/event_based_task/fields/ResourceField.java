@@ -0,0 +1,188 @@
+package aura.event_based_task.fields;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One selectable field of a resource: the columns it reads and how it is written. A field
+ * spans {@link #width()} consecutive values of a projected row.
+ */
+public abstract class ResourceField {
+
+    private final String name;
+    private final SerializedString jsonName;
+
+    private ResourceField(String name) {
+        this.name = name;
+        this.jsonName = new SerializedString(name);
+    }
+
+    /** A basic attribute, written with the mapper's own serializer for its type. */
+    public static ResourceField column(String name, Class<?> type) {
+        return new Column(name, name, type);
+    }
+
+    /** The id of a to-one association, read from the foreign key column without a join. */
+    public static ResourceField foreignKey(String name, String association) {
+        return new ForeignKey(name, association);
+    }
+
+    /** A to-one user association, written as {@code {"id", "username"}} through a left join. */
+    public static ResourceField userRef(String name, String association) {
+        return new UserRef(name, association);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    SerializedString jsonName() {
+        return jsonName;
+    }
+
+    abstract int width();
+
+    abstract void select(From<?, ?> root, Map<String, Join<?, ?>> joins, List<Selection<?>> selections);
+
+    abstract void read(BeanWrapper entity, Object[] row, int offset);
+
+    abstract void write(JsonGenerator gen, Object[] row, int offset, SerializerProvider provider) throws IOException;
+
+    private static final class Column extends ResourceField {
+        private final String attribute;
+        private final Class<?> type;
+        // Resolved on first use; the mapper caches serializers, this skips the lookup per value.
+        private volatile JsonSerializer<Object> serializer;
+
+        private Column(String name, String attribute, Class<?> type) {
+            super(name);
+            this.attribute = attribute;
+            this.type = type;
+        }
+
+        @Override
+        int width() {
+            return 1;
+        }
+
+        @Override
+        void select(From<?, ?> root, Map<String, Join<?, ?>> joins, List<Selection<?>> selections) {
+            selections.add(root.get(attribute));
+        }
+
+        @Override
+        void read(BeanWrapper entity, Object[] row, int offset) {
+            row[offset] = entity.getPropertyValue(attribute);
+        }
+
+        @Override
+        void write(JsonGenerator gen, Object[] row, int offset, SerializerProvider provider) throws IOException {
+            Object value = row[offset];
+            if (value == null) {
+                gen.writeNull();
+                return;
+            }
+            JsonSerializer<Object> resolved = serializer;
+            if (resolved == null) {
+                resolved = provider.findValueSerializer(type);
+                serializer = resolved;
+            }
+            resolved.serialize(value, gen, provider);
+        }
+    }
+
+    private static final class ForeignKey extends ResourceField {
+        private final String association;
+
+        private ForeignKey(String name, String association) {
+            super(name);
+            this.association = association;
+        }
+
+        @Override
+        int width() {
+            return 1;
+        }
+
+        @Override
+        void select(From<?, ?> root, Map<String, Join<?, ?>> joins, List<Selection<?>> selections) {
+            selections.add(root.get(association).get("id"));
+        }
+
+        @Override
+        void read(BeanWrapper entity, Object[] row, int offset) {
+            Object target = entity.getPropertyValue(association);
+            row[offset] = target == null ? null : PropertyAccessorFactory.forBeanPropertyAccess(target).getPropertyValue("id");
+        }
+
+        @Override
+        void write(JsonGenerator gen, Object[] row, int offset, SerializerProvider provider) throws IOException {
+            if (row[offset] == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(((Number) row[offset]).longValue());
+            }
+        }
+    }
+
+    private static final class UserRef extends ResourceField {
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString USERNAME = new SerializedString("username");
+
+        private final String association;
+
+        private UserRef(String name, String association) {
+            super(name);
+            this.association = association;
+        }
+
+        @Override
+        int width() {
+            return 2;
+        }
+
+        @Override
+        void select(From<?, ?> root, Map<String, Join<?, ?>> joins, List<Selection<?>> selections) {
+            Join<?, ?> join = joins.computeIfAbsent(association, key -> root.join(key, JoinType.LEFT));
+            selections.add(join.get("id"));
+            selections.add(join.get("username"));
+        }
+
+        @Override
+        void read(BeanWrapper entity, Object[] row, int offset) {
+            Object user = entity.getPropertyValue(association);
+            if (user == null) {
+                return;
+            }
+            BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(user);
+            row[offset] = wrapper.getPropertyValue("id");
+            row[offset + 1] = wrapper.getPropertyValue("username");
+        }
+
+        @Override
+        void write(JsonGenerator gen, Object[] row, int offset, SerializerProvider provider) throws IOException {
+            if (row[offset] == null) {
+                gen.writeNull();
+                return;
+            }
+            gen.writeStartObject();
+            gen.writeFieldName(ID);
+            gen.writeNumber(((Number) row[offset]).longValue());
+            gen.writeFieldName(USERNAME);
+            gen.writeString((String) row[offset + 1]);
+            gen.writeEndObject();
+        }
+    }
+}
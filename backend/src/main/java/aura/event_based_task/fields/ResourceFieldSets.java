@@ -0,0 +1,49 @@
+package aura.event_based_task.fields;
+
+import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.model.Event;
+import aura.event_based_task.model.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** The sparse fieldsets of the event and task resources; names match the full JSON representation. */
+public final class ResourceFieldSets {
+
+    public static final ResourceFields<Event> EVENTS = new ResourceFields<>("events", Event.class, List.of(
+            ResourceField.column("id", Long.class),
+            ResourceField.column("version", Long.class),
+            ResourceField.column("name", String.class),
+            ResourceField.column("description", String.class),
+            ResourceField.column("date", LocalDate.class),
+            ResourceField.column("location", String.class),
+            ResourceField.column("maxParticipants", Integer.class),
+            ResourceField.column("category", String.class),
+            ResourceField.column("tags", String.class),
+            ResourceField.column("isRecurring", Boolean.class),
+            ResourceField.column("recurrencePattern", String.class),
+            ResourceField.column("imageUrl", String.class),
+            ResourceField.column("createdAt", LocalDateTime.class),
+            ResourceField.column("updatedAt", LocalDateTime.class),
+            ResourceField.userRef("createdBy", "createdBy")));
+
+    public static final ResourceFields<Task> TASKS = new ResourceFields<>("tasks", Task.class, List.of(
+            ResourceField.column("id", Long.class),
+            ResourceField.column("version", Long.class),
+            ResourceField.column("name", String.class),
+            ResourceField.column("description", String.class),
+            ResourceField.column("status", ETaskStatus.class),
+            ResourceField.column("priority", Integer.class),
+            ResourceField.column("deadline", LocalDateTime.class),
+            ResourceField.column("estimatedHours", Integer.class),
+            ResourceField.column("actualHours", Integer.class),
+            ResourceField.column("createdAt", LocalDateTime.class),
+            ResourceField.column("updatedAt", LocalDateTime.class),
+            ResourceField.foreignKey("eventId", "event"),
+            ResourceField.userRef("assignedTo", "assignedTo"),
+            ResourceField.userRef("createdBy", "createdBy")));
+
+    private ResourceFieldSets() {
+    }
+}
@@ -0,0 +1,75 @@
+package aura.event_based_task.fields;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The fields a resource exposes to {@code ?fields=}, in response order. Requested names are
+ * validated and put in declaration order, with {@code id} always first. The result is a bit
+ * mask that keys the compiled {@link FieldSetWriter}. Frontends ask for a handful of distinct
+ * sets, so the cache stays small; it stops growing at {@link #MAX_CACHED_WRITERS} regardless.
+ */
+public final class ResourceFields<T> {
+
+    static final int MAX_CACHED_WRITERS = 256;
+
+    private final String resource;
+    private final Class<T> type;
+    private final List<ResourceField> fields;
+    private final Map<String, Integer> positions = new LinkedHashMap<>();
+    private final Map<Long, FieldSetWriter<T>> writers = new ConcurrentHashMap<>();
+
+    public ResourceFields(String resource, Class<T> type, List<ResourceField> fields) {
+        if (fields.isEmpty() || !"id".equals(fields.get(0).name()) || fields.size() > Long.SIZE) {
+            throw new IllegalArgumentException("Fields must start with id and number at most " + Long.SIZE);
+        }
+        this.resource = resource;
+        this.type = type;
+        this.fields = List.copyOf(fields);
+        for (int i = 0; i < fields.size(); i++) {
+            positions.put(fields.get(i).name(), i);
+        }
+    }
+
+    /** Empty when the parameter is absent or blank, meaning the full representation. */
+    public Optional<FieldSetWriter<T>> parse(String param) {
+        if (param == null || param.isBlank()) {
+            return Optional.empty();
+        }
+        long mask = 1L;
+        for (String name : param.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            Integer position = positions.get(trimmed);
+            if (position == null) {
+                throw new IllegalStateException("Unknown field '" + trimmed + "' for " + resource
+                        + "; available: " + String.join(",", positions.keySet()));
+            }
+            mask |= 1L << position;
+        }
+        FieldSetWriter<T> writer = writers.get(mask);
+        if (writer == null) {
+            writer = compile(mask);
+            if (writers.size() < MAX_CACHED_WRITERS) {
+                writers.putIfAbsent(mask, writer);
+            }
+        }
+        return Optional.of(writer);
+    }
+
+    private FieldSetWriter<T> compile(long mask) {
+        List<ResourceField> selected = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            if ((mask & (1L << i)) != 0) {
+                selected.add(fields.get(i));
+            }
+        }
+        return new FieldSetWriter<>(type, selected);
+    }
+}
@@ -0,0 +1,75 @@
+package aura.event_based_task.fields;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Runs a {@link Specification} as a tuple query that selects only a field set's columns. No
+ * entities are built, so nothing enters the persistence context, eager associations are not
+ * fetched and lazy ones cannot be touched during serialization.
+ */
+@Component
+public class SparseQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> List<SparseRow> findAll(FieldSetWriter<T> writer, Specification<T> spec, Sort sort) {
+        return query(writer, spec, sort).getResultList().stream()
+                .map(tuple -> writer.row(tuple.toArray()))
+                .toList();
+    }
+
+    public <T> Page<SparseRow> findPage(FieldSetWriter<T> writer, Specification<T> spec, Pageable pageable) {
+        TypedQuery<Tuple> query = query(writer, spec, pageable.getSort());
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        List<SparseRow> rows = query.getResultList().stream()
+                .map(tuple -> writer.row(tuple.toArray()))
+                .toList();
+        // The count only runs when the page is full or not the first one.
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(writer.type(), spec));
+    }
+
+    private <T> TypedQuery<Tuple> query(FieldSetWriter<T> writer, Specification<T> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(writer.type());
+        query.multiselect(writer.selections(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private <T> long count(Class<T> type, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(type);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
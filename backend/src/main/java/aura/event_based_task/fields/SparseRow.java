@@ -0,0 +1,30 @@
+package aura.event_based_task.fields;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/** A projected row that serializes itself through its field set's writer, with no bean introspection. */
+public final class SparseRow implements JsonSerializable {
+
+    private final FieldSetWriter<?> writer;
+    private final Object[] values;
+
+    SparseRow(FieldSetWriter<?> writer, Object[] values) {
+        this.writer = writer;
+        this.values = values;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider provider) throws IOException {
+        writer.write(gen, values, provider);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+        serialize(gen, provider);
+    }
+}
@@ -0,0 +1,32 @@
+package aura.event_based_task.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+
+// The simple broker runs in-process, so it is up whenever the application is; this reports load.
+@Component
+public class BrokerHealthIndicator extends CachedHealthIndicator {
+
+    private final SimpUserRegistry userRegistry;
+
+    public BrokerHealthIndicator(SimpUserRegistry userRegistry) {
+        this.userRegistry = userRegistry;
+    }
+
+    @Override
+    protected Health check() {
+        int sessions = 0;
+        int subscriptions = 0;
+        for (SimpUser user : userRegistry.getUsers()) {
+            sessions += user.getSessions().size();
+            subscriptions += user.getSessions().stream().mapToInt(session -> session.getSubscriptions().size()).sum();
+        }
+        return Health.up()
+                .withDetail("users", userRegistry.getUserCount())
+                .withDetail("sessions", sessions)
+                .withDetail("subscriptions", subscriptions)
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package aura.event_based_task.health;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class CacheHealthIndicator extends CachedHealthIndicator {
+
+    private final Map<String, CacheManager> cacheManagers;
+
+    public CacheHealthIndicator(Map<String, CacheManager> cacheManagers) {
+        this.cacheManagers = cacheManagers;
+    }
+
+    @Override
+    protected Health check() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        cacheManagers.forEach((managerName, manager) -> {
+            for (String cacheName : manager.getCacheNames()) {
+                Cache cache = manager.getCache(cacheName);
+                if (!(cache instanceof CaffeineCache caffeineCache)) {
+                    continue;
+                }
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                CacheStats stats = nativeCache.stats();
+                Map<String, Object> cacheDetails = new LinkedHashMap<>();
+                cacheDetails.put("size", nativeCache.estimatedSize());
+                if (stats.requestCount() > 0) {
+                    cacheDetails.put("hitRate", Math.round(stats.hitRate() * 100) / 100.0);
+                    cacheDetails.put("evictions", stats.evictionCount());
+                }
+                details.put(managerName + "." + cacheName, cacheDetails);
+            }
+        });
+        return Health.up().withDetails(details).build();
+    }
+}
@@ -0,0 +1,58 @@
+package aura.event_based_task.health;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Serves the last computed result instead of checking on every probe. A scheduled task
+ * refreshes the result in the background, so probes never wait on the check itself and never
+ * take a pool connection. A result that has not been refreshed for three intervals is reported
+ * as UNKNOWN rather than trusted.
+ */
+public abstract class CachedHealthIndicator implements HealthIndicator {
+
+    @Value("${app.health.refresh-interval-ms:10000}")
+    private long refreshIntervalMs;
+
+    private volatile Health cached;
+    private volatile Instant checkedAt;
+
+    @Override
+    public Health health() {
+        Health result = cached;
+        Instant at = checkedAt;
+        if (result == null) {
+            refresh();
+            result = cached;
+            at = checkedAt;
+        } else if (Duration.between(at, Instant.now()).toMillis() > 3 * refreshIntervalMs) {
+            return Health.unknown()
+                    .withDetail("reason", "Check has not completed since " + at)
+                    .build();
+        }
+        return Health.status(result.getStatus())
+                .withDetails(result.getDetails())
+                .withDetail("checkedAt", at.toString())
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${app.health.refresh-interval-ms:10000}",
+            initialDelayString = "${app.health.refresh-interval-ms:10000}")
+    public void refresh() {
+        Health result;
+        try {
+            result = check();
+        } catch (Exception ex) {
+            result = Health.down(ex).build();
+        }
+        cached = result;
+        checkedAt = Instant.now();
+    }
+
+    protected abstract Health check() throws Exception;
+}
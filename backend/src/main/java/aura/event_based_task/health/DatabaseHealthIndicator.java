@@ -1,40 +1,35 @@
 package aura.event_based_task.health;
 
-import aura.event_based_task.repository.UserRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
-import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.stereotype.Component;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
+
 @Component
-public class DatabaseHealthIndicator implements HealthIndicator {
+public class DatabaseHealthIndicator extends CachedHealthIndicator {
+
+    private final DataSource dataSource;
 
-    @Autowired
-    private UserRepository userRepository;
+    @Value("${app.health.db-validation-timeout-seconds:2}")
+    private int validationTimeoutSeconds;
+
+    public DatabaseHealthIndicator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
 
     @Override
-    public Health health() {
-        try {
-            // Simple database connectivity check
-            long userCount = userRepository.count();
-            
-            if (userCount >= 0) {
-                return Health.up()
-                    .withDetail("database", "PostgreSQL")
-                    .withDetail("userCount", userCount)
-                    .withDetail("status", "Connection successful")
-                    .build();
-            } else {
-                return Health.down()
-                    .withDetail("database", "PostgreSQL")
-                    .withDetail("error", "Unable to count users")
+    protected Health check() throws Exception {
+        long start = System.nanoTime();
+        // Connection.isValid lets the driver use its own lightweight ping instead of a query.
+        try (Connection connection = dataSource.getConnection()) {
+            boolean valid = connection.isValid(validationTimeoutSeconds);
+            Health.Builder builder = valid ? Health.up() : Health.down();
+            return builder
+                    .withDetail("database", connection.getMetaData().getDatabaseProductName())
+                    .withDetail("validationMs", (System.nanoTime() - start) / 1_000_000)
                     .build();
-            }
-        } catch (Exception ex) {
-            return Health.down()
-                .withDetail("database", "PostgreSQL")
-                .withDetail("error", ex.getMessage())
-                .build();
         }
     }
 }
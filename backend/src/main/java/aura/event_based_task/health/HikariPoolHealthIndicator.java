@@ -0,0 +1,61 @@
+package aura.event_based_task.health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reports usage of every Hikari pool (primary, and replica when routing is enabled). A pool
+ * whose connections are all in use while threads queue for one is OUT_OF_SERVICE, which takes
+ * the instance out of the readiness group until it drains.
+ */
+@Component
+public class HikariPoolHealthIndicator extends CachedHealthIndicator {
+
+    private final Map<String, HikariDataSource> pools;
+
+    @Value("${app.health.pool-saturation-warning:0.8}")
+    private double saturationWarning;
+
+    public HikariPoolHealthIndicator(Map<String, HikariDataSource> pools) {
+        this.pools = pools;
+    }
+
+    @Override
+    protected Health check() {
+        Status status = Status.UP;
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (HikariDataSource pool : pools.values()) {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            if (mxBean == null) {
+                // Pool not started yet; Hikari creates it on the first getConnection.
+                continue;
+            }
+            int max = pool.getMaximumPoolSize();
+            int active = mxBean.getActiveConnections();
+            int waiting = mxBean.getThreadsAwaitingConnection();
+            double saturation = max == 0 ? 0 : (double) active / max;
+
+            Map<String, Object> poolDetails = new LinkedHashMap<>();
+            poolDetails.put("active", active);
+            poolDetails.put("idle", mxBean.getIdleConnections());
+            poolDetails.put("max", max);
+            poolDetails.put("waiting", waiting);
+            poolDetails.put("saturation", Math.round(saturation * 100) / 100.0);
+            if (active >= max && waiting > 0) {
+                poolDetails.put("state", "exhausted");
+                status = Status.OUT_OF_SERVICE;
+            } else if (saturation >= saturationWarning) {
+                poolDetails.put("state", "near capacity");
+            }
+            details.put(pool.getPoolName(), poolDetails);
+        }
+        return Health.status(status).withDetails(details).build();
+    }
+}
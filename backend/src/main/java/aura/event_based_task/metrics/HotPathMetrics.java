@@ -0,0 +1,125 @@
+package aura.event_based_task.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Central place for the timers and counters on our request and message hot paths.
+ * Tag values are always drawn from small fixed sets (target types, outcomes, topic
+ * families) so that IDs never turn into tags.
+ */
+@Component
+public class HotPathMetrics {
+
+    public static final String JWT_VALIDATION = "app.security.jwt.validation";
+    public static final String USER_LOAD = "app.security.user.load";
+    public static final String PERMISSION_CHECK = "app.security.permission.check";
+    public static final String CHAT_SAVE = "app.chat.save";
+    public static final String BROADCAST = "app.websocket.broadcast";
+    public static final String BROADCAST_BATCH = "app.websocket.broadcast.batch";
+    public static final String BROADCAST_QUEUE = "app.websocket.broadcast.queue";
+    public static final String BROADCAST_DROPPED = "app.websocket.broadcast.dropped";
+    public static final String EVENTS_LIST = "app.events.list";
+    public static final String RATE_LIMIT_REJECTIONS = "app.ratelimit.rejections";
+
+    private final MeterRegistry registry;
+
+    public HotPathMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void stop(Timer.Sample sample, String name, String... tags) {
+        sample.stop(timer(name, tags));
+    }
+
+    public <T> T record(String name, Supplier<T> supplier, String... tags) {
+        return timer(name, tags).record(supplier);
+    }
+
+    public void record(String name, Runnable runnable, String... tags) {
+        timer(name, tags).record(runnable);
+    }
+
+    public void broadcast(String destination, Runnable send) {
+        record(BROADCAST, send, "destination", destinationFamily(destination));
+    }
+
+    public void broadcastBatch(int size) {
+        DistributionSummary.builder(BROADCAST_BATCH)
+                .description("Broadcasts delivered per outbox batch")
+                .register(registry)
+                .record(size);
+    }
+
+    public void broadcastDropped(String destination) {
+        Counter.builder(BROADCAST_DROPPED)
+                .description("Broadcasts dropped because the outbox queue was full")
+                .tag("destination", destinationFamily(destination))
+                .register(registry)
+                .increment();
+    }
+
+    public <T> void gauge(String name, T stateObject, ToDoubleFunction<T> valueFunction) {
+        Gauge.builder(name, stateObject, valueFunction).register(registry);
+    }
+
+    public void rateLimitRejected(String requestPath) {
+        Counter.builder(RATE_LIMIT_REJECTIONS)
+                .description("Requests rejected by the rate limit filter")
+                .tag("endpoint", endpointFamily(requestPath))
+                .register(registry)
+                .increment();
+    }
+
+    private Timer timer(String name, String... tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * Collapses "/topic/tasks/42" into "/topic/tasks" so each topic family is one series.
+     */
+    static String destinationFamily(String destination) {
+        if (destination == null) {
+            return "none";
+        }
+        StringBuilder family = new StringBuilder();
+        for (String segment : destination.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segment.chars().allMatch(Character::isDigit)) {
+                break;
+            }
+            family.append('/').append(segment);
+        }
+        return family.length() == 0 ? "/" : family.toString();
+    }
+
+    static String endpointFamily(String requestPath) {
+        if (requestPath.startsWith("/api/auth/")) {
+            return "auth";
+        }
+        if (requestPath.startsWith("/api/v1/events")) {
+            return "events";
+        }
+        // TaskController is mounted at /api/tasks, not under /api/v1.
+        if (requestPath.startsWith("/api/tasks")) {
+            return "tasks";
+        }
+        return "other";
+    }
+}
@@ -0,0 +1,42 @@
+package aura.event_based_task.metrics;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts statements per inbound STOMP message. Only the @MessageMapping handler is tracked;
+ * the broker and user-destination handlers receive the same message but never touch the database.
+ */
+@Component
+public class QueryBudgetChannelInterceptor implements ExecutorChannelInterceptor {
+
+    private static final ThreadLocal<Boolean> STARTED = new ThreadLocal<>();
+
+    private final QueryBudgetMonitor monitor;
+
+    public QueryBudgetChannelInterceptor(QueryBudgetMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler && monitor.begin()) {
+            STARTED.set(Boolean.TRUE);
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (STARTED.get() == null) {
+            return;
+        }
+        STARTED.remove();
+        monitor.end("stomp", "STOMP " + SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+    }
+}
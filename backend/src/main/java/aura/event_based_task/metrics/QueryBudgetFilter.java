@@ -0,0 +1,38 @@
+package aura.event_based_task.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Runs first so statements issued by the security filters (user loading) are counted too.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final QueryBudgetMonitor monitor;
+
+    public QueryBudgetFilter(QueryBudgetMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!monitor.begin()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            monitor.end("http", request.getMethod() + " " + request.getRequestURI());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package aura.event_based_task.metrics;
+
+import aura.event_based_task.config.QueryBudgetConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens and closes {@link QueryCounter} scopes for the HTTP and STOMP entry points, records
+ * the per-unit statement count and logs the offending call sites when the budget is exceeded.
+ */
+@Component
+public class QueryBudgetMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetMonitor.class);
+
+    private final QueryBudgetConfig config;
+    private final MeterRegistry registry;
+
+    public QueryBudgetMonitor(QueryBudgetConfig config, MeterRegistry registry) {
+        this.config = config;
+        this.registry = registry;
+    }
+
+    public boolean begin() {
+        return config.isEnabled() && QueryCounter.begin(config.isCaptureCallSites());
+    }
+
+    public void end(String channel, String description) {
+        QueryStats stats = QueryCounter.end();
+        DistributionSummary.builder("app.db.statements")
+                .description("SQL statements issued per HTTP request or STOMP message")
+                .tag("channel", channel)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(stats.getStatementCount());
+
+        if (stats.getStatementCount() > config.getMaxStatements()) {
+            Counter.builder("app.db.statements.budget.exceeded")
+                    .tag("channel", channel)
+                    .register(registry)
+                    .increment();
+            logger.warn("SQL budget exceeded: {} ran {} statements (budget {}). Top call sites: {}",
+                    description, stats.getStatementCount(), config.getMaxStatements(), stats.topCallSites(5));
+        }
+    }
+}
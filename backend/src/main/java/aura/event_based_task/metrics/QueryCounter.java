@@ -0,0 +1,132 @@
+package aura.event_based_task.metrics;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thread-bound SQL statement counter. A scope is opened per HTTP request or STOMP message;
+ * every statement Hibernate prepares inside the scope is counted and, optionally,
+ * attributed to the first application frame that triggered it. Tests can also keep the SQL
+ * text of every statement, exactly as Hibernate generated it.
+ *
+ * <p>Tests can read the figures for the request that just ran on their thread through
+ * {@link #lastCompleted()}.
+ */
+public final class QueryCounter {
+
+    private static final String APP_PACKAGE = "aura.event_based_task.";
+    private static final String METRICS_PACKAGE = "aura.event_based_task.metrics.";
+    private static final String[] INFRASTRUCTURE_PACKAGES = {
+            "java.", "jdk.", "sun.", "jakarta.", "org.hibernate.", "org.springframework.",
+            "com.zaxxer.", "org.h2.", "org.postgresql.", "net.bytebuddy.", METRICS_PACKAGE
+    };
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<QueryStats> LAST = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Opens a scope on the current thread. Returns false when one is already open, in which
+     * case the caller must not call {@link #end()}.
+     */
+    public static boolean begin(boolean captureCallSites) {
+        return begin(captureCallSites, false);
+    }
+
+    public static boolean begin(boolean captureCallSites, boolean captureStatements) {
+        if (CURRENT.get() != null) {
+            return false;
+        }
+        CURRENT.set(new Scope(captureCallSites, captureStatements));
+        return true;
+    }
+
+    public static QueryStats end() {
+        Scope scope = CURRENT.get();
+        CURRENT.remove();
+        QueryStats stats = scope == null ? QueryStats.EMPTY
+                : new QueryStats(scope.count, scope.callSites, scope.statements);
+        LAST.set(stats);
+        return stats;
+    }
+
+    /** Number of statements counted so far in the open scope, or 0 when none is open. */
+    public static int current() {
+        Scope scope = CURRENT.get();
+        return scope == null ? 0 : scope.count;
+    }
+
+    public static QueryStats lastCompleted() {
+        QueryStats stats = LAST.get();
+        return stats == null ? QueryStats.EMPTY : stats;
+    }
+
+    static void record(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        scope.count++;
+        if (scope.captureCallSites) {
+            scope.callSites.merge(callSite(), 1, Integer::sum);
+        }
+        if (scope.statements != null) {
+            scope.statements.add(sql);
+        }
+    }
+
+    private static String callSite() {
+        return WALKER.walk(frames -> {
+            String fallback = null;
+            for (Iterator<StackWalker.StackFrame> it = frames.iterator(); it.hasNext(); ) {
+                StackWalker.StackFrame frame = it.next();
+                String className = frame.getClassName();
+                if (className.startsWith(APP_PACKAGE) && !className.startsWith(METRICS_PACKAGE)) {
+                    return format(frame);
+                }
+                // Past the dispatcher we would only find servlet filters, which are not the
+                // cause; lazy loads during response serialization end up here.
+                if (className.equals("org.springframework.web.servlet.DispatcherServlet")) {
+                    break;
+                }
+                if (fallback == null && !isInfrastructure(className)) {
+                    fallback = format(frame);
+                }
+            }
+            return fallback != null ? fallback : "unknown";
+        });
+    }
+
+    private static boolean isInfrastructure(String className) {
+        for (String prefix : INFRASTRUCTURE_PACKAGES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String format(StackWalker.StackFrame frame) {
+        String className = frame.getClassName();
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        return simpleName + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+    }
+
+    private static final class Scope {
+        private final boolean captureCallSites;
+        private final Map<String, Integer> callSites = new LinkedHashMap<>();
+        private final List<String> statements;
+        private int count;
+
+        private Scope(boolean captureCallSites, boolean captureStatements) {
+            this.captureCallSites = captureCallSites;
+            this.statements = captureStatements ? new ArrayList<>() : null;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package aura.event_based_task.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Statements executed within one HTTP request or STOMP message, with per call site counts.
+ */
+public class QueryStats {
+
+    public static final QueryStats EMPTY = new QueryStats(0, Map.of());
+
+    private final int statementCount;
+    private final Map<String, Integer> callSites;
+    private final List<String> statements;
+
+    public QueryStats(int statementCount, Map<String, Integer> callSites) {
+        this(statementCount, callSites, null);
+    }
+
+    public QueryStats(int statementCount, Map<String, Integer> callSites, List<String> statements) {
+        this.statementCount = statementCount;
+        this.callSites = Collections.unmodifiableMap(callSites);
+        this.statements = statements == null ? List.of() : List.copyOf(statements);
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public Map<String, Integer> getCallSites() {
+        return callSites;
+    }
+
+    // Empty unless the scope was opened with statement capture.
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    /** Call sites ordered by how many statements they issued, e.g. "EventService.getMyEvents:88 x12". */
+    public String topCallSites(int limit) {
+        return callSites.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(limit)
+                .map(entry -> entry.getKey() + " x" + entry.getValue())
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,45 @@
+package aura.event_based_task.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "blobs", indexes = {
+    @Index(name = "idx_blobs_unreferenced", columnList = "ref_count, updated_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class Blob {
+    // Hex SHA-256 of the file contents.
+    @Id
+    @Column(length = 64, columnDefinition = "CHAR(64)")
+    private String hash;
+
+    @Column(nullable = false, length = 8)
+    private String extension;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public Blob(String hash, String extension, long size, LocalDateTime now) {
+        this.hash = hash;
+        this.extension = extension;
+        this.size = size;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+}
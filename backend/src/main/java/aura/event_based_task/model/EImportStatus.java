@@ -0,0 +1,7 @@
+package aura.event_based_task.model;
+
+public enum EImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package aura.event_based_task.model;
+
+public enum EImportTarget {
+    EVENTS,
+    TASKS
+}
@@ -0,0 +1,9 @@
+package aura.event_based_task.model;
+
+public enum ENotificationType {
+    TASK_ASSIGNED,
+    EVENT_CREATED,
+    CHAT_MENTION,
+    TASK_DUE_SOON,
+    TASK_OVERDUE
+}
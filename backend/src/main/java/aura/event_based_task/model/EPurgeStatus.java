@@ -0,0 +1,8 @@
+package aura.event_based_task.model;
+
+public enum EPurgeStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
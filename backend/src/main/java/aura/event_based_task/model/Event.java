@@ -1,5 +1,7 @@
 package aura.event_based_task.model;
 
+import aura.event_based_task.facet.EventTags;
+import aura.event_based_task.recurrence.RecurrenceRule;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.FutureOrPresent;
@@ -20,8 +22,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.Where;
 
 @Entity
 @Table(name = "events", indexes = {
@@ -31,18 +38,26 @@ import org.hibernate.annotations.UpdateTimestamp;
     @Index(name = "idx_event_created_at", columnList = "created_at"),
     @Index(name = "idx_event_name", columnList = "name")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event")
+// Soft-deleted events disappear from every query while EventPurger removes their children.
+@Where(clause = "deleted_at IS NULL")
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@ToString(exclude = {"members", "tasks", "chatMessages"})
-@EqualsAndHashCode(exclude = {"members", "tasks", "chatMessages"})
+@ToString(exclude = {"members", "tasks", "chatMessages", "tagIndex"})
+@EqualsAndHashCode(exclude = {"members", "tasks", "chatMessages", "tagIndex"})
+@DynamicUpdate
 public class Event {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @NotBlank(message = "Event name is required")
     @Size(max = 100, message = "Event name must be less than 100 characters")
     @Column(nullable = false)
@@ -74,6 +89,14 @@ public class Event {
     @Size(max = 200, message = "Tags must be less than 200 characters")
     @Column(name = "tags")
     private String tags; // Comma-separated tags
+
+    // Normalized copy of tags, one event_tags row per tag, for exact-match filtering.
+    @ElementCollection
+    @CollectionTable(name = "event_tags", joinColumns = @JoinColumn(name = "event_id"))
+    @Column(name = "tag", length = EventTags.MAX_TAG_LENGTH, nullable = false)
+    @JsonIgnore
+    @Builder.Default
+    private Set<String> tagIndex = new HashSet<>();
     
     @Column(name = "is_recurring")
     @Builder.Default
@@ -94,6 +117,15 @@ public class Event {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Set by EventService.deleteEvent through a bulk update, never by loading and saving the entity.
+    @Column(name = "deleted_at")
+    @JsonIgnore
+    private LocalDateTime deletedAt;
+
+    // True on the read-only copies ArchiveService rebuilds from the archive.
+    @Transient
+    private boolean archived;
+
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "creator_id", nullable = false)
     private User createdBy;
@@ -102,8 +134,12 @@ public class Event {
     @JoinTable(
             name = "event_members",
             joinColumns = @JoinColumn(name = "event_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
+            inverseJoinColumns = @JoinColumn(name = "user_id"),
+            indexes = @Index(name = "idx_event_members_user_event", columnList = "user_id, event_id")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event-members")
+    // Joining or leaving is not an edit of the event; concurrent joins must not conflict.
+    @OptimisticLock(excluded = true)
     @Builder.Default
     private Set<User> members = new HashSet<>();
 
@@ -174,10 +210,27 @@ public class Event {
         }
     }
 
+    // A series is over once its rule has no occurrence left, not when its first date passes.
     public boolean isExpired() {
+        if (Boolean.TRUE.equals(isRecurring) && date != null) {
+            return RecurrenceRule.tryParse(recurrencePattern, date)
+                    .map(rule -> rule.firstOnOrAfter(LocalDate.now()).isEmpty())
+                    .orElse(date.isBefore(LocalDate.now()));
+        }
         return date != null && date.isBefore(LocalDate.now());
     }
 
+    // Stores the normalized list and keeps tagIndex in step with it.
+    public void setTags(String tags) {
+        Set<String> normalized = EventTags.parse(tags);
+        this.tags = EventTags.join(normalized);
+        if (this.tagIndex == null) {
+            this.tagIndex = new HashSet<>();
+        }
+        this.tagIndex.retainAll(normalized);
+        this.tagIndex.addAll(normalized);
+    }
+
     public Integer getMaxParticipants() { return maxParticipants; }
     public void setMaxParticipants(Integer maxParticipants) { this.maxParticipants = maxParticipants; }
 
@@ -0,0 +1,56 @@
+package aura.event_based_task.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * An expired event moved out of the hot tables by {@code EventArchiver}. The payload is an
+ * {@code ArchivedEvent} snapshot, gzip-compressed JSON; archived rows are never updated.
+ */
+@Entity
+@Table(name = "event_archive")
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString(exclude = {"memberIds", "payload"})
+public class EventArchive {
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "event_date", nullable = false)
+    private LocalDate eventDate;
+
+    @Column(name = "creator_id", nullable = false)
+    private Long creatorId;
+
+    @Column(name = "task_count", nullable = false)
+    private int taskCount;
+
+    @Column(name = "message_count", nullable = false)
+    private int messageCount;
+
+    // Member ids only, for the permission check; the users themselves stay in the hot table.
+    @ElementCollection
+    @CollectionTable(name = "event_archive_members", joinColumns = @JoinColumn(name = "event_id"))
+    @Column(name = "user_id")
+    private Set<Long> memberIds = new HashSet<>();
+
+    @Basic(fetch = FetchType.LAZY)
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,67 @@
+package aura.event_based_task.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the background removal of a soft-deleted event. Totals are counted when the
+ * purge starts; the deleted counters advance with every committed chunk.
+ */
+@Entity
+@Table(name = "event_purges", indexes = {
+    @Index(name = "idx_event_purges_status", columnList = "status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class EventPurge {
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "requested_by", length = 50)
+    private String requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EPurgeStatus status = EPurgeStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "tasks_total")
+    private Long tasksTotal;
+
+    @Column(name = "tasks_deleted", nullable = false)
+    private long tasksDeleted;
+
+    @Column(name = "messages_total")
+    private Long messagesTotal;
+
+    @Column(name = "messages_deleted", nullable = false)
+    private long messagesDeleted;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public EventPurge(Long eventId, String requestedBy, LocalDateTime requestedAt) {
+        this.eventId = eventId;
+        this.requestedBy = requestedBy;
+        this.requestedAt = requestedAt;
+    }
+}
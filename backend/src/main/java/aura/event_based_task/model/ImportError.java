@@ -0,0 +1,38 @@
+package aura.event_based_task.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** A rejected import row: its line in the uploaded file and what was wrong with it. */
+@Entity
+@Table(name = "import_job_errors", indexes = {
+    @Index(name = "idx_import_job_errors_job_line", columnList = "job_id, line")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ImportError {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @JsonIgnore
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    @JsonIgnore
+    private Long jobId;
+
+    @Column(nullable = false)
+    private long line;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    public ImportError(Long jobId, long line, String message) {
+        this.jobId = jobId;
+        this.line = line;
+        this.message = message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
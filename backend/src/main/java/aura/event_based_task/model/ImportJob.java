@@ -0,0 +1,64 @@
+package aura.event_based_task.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "import_jobs", indexes = {
+    @Index(name = "idx_import_jobs_user_created", columnList = "username, created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class ImportJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String username;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EImportTarget target;
+
+    @Column(nullable = false, length = 20)
+    private String format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EImportStatus status = EImportStatus.RUNNING;
+
+    @Column(name = "rows_imported", nullable = false)
+    private long rowsImported;
+
+    @Column(name = "rows_failed", nullable = false)
+    private long rowsFailed;
+
+    // Why the job stopped early, when it did.
+    @Column(length = 500)
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public ImportJob(String username, EImportTarget target, String format, LocalDateTime now) {
+        this.username = username;
+        this.target = target;
+        this.format = format;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+}
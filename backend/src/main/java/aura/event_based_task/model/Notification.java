@@ -0,0 +1,69 @@
+package aura.event_based_task.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "notification_queue", indexes = {
+    @Index(name = "idx_notification_status_due", columnList = "status, next_attempt_at"),
+    @Index(name = "idx_notification_recipient_status", columnList = "recipient_id, status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString(exclude = "recipient")
+public class Notification {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "recipient_id", nullable = false)
+    private User recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ENotificationType type;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    // Not a foreign key: the notification outlives the event it mentions.
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ENotificationStatus status = ENotificationStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // For PENDING rows: when the digest may go out. For SENDING rows: when the claim expires.
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public Notification(User recipient, ENotificationType type, String message, Long eventId,
+                        LocalDateTime createdAt, LocalDateTime nextAttemptAt) {
+        this.recipient = recipient;
+        this.type = type;
+        this.message = message;
+        this.eventId = eventId;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
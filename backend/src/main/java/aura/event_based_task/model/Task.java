@@ -14,6 +14,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -26,8 +27,14 @@ import java.util.Set;
     @Index(name = "idx_task_priority", columnList = "priority"),
     @Index(name = "idx_task_deadline", columnList = "deadline"),
     @Index(name = "idx_task_assigned_to", columnList = "assigned_to_user_id"),
-    @Index(name = "idx_task_event", columnList = "event_id"),
-    @Index(name = "idx_task_created_at", columnList = "created_at")
+    // The portable index; the PostgreSQL migrations swap it for idx_task_event_status_covering.
+    @Index(name = "idx_task_event_status", columnList = "event_id, status"),
+    @Index(name = "idx_task_created_at", columnList = "created_at"),
+    @Index(name = "idx_task_event_created", columnList = "event_id, created_at, id"),
+    @Index(name = "idx_task_event_deadline", columnList = "event_id, deadline, id"),
+    @Index(name = "idx_task_event_priority", columnList = "event_id, priority, id"),
+    @Index(name = "idx_task_event_name", columnList = "event_id, name, id"),
+    @Index(name = "idx_task_event_assignee", columnList = "event_id, assigned_to_user_id")
 })
 @Getter
 @Setter
@@ -36,11 +43,18 @@ import java.util.Set;
 @Builder
 @ToString(exclude = {"event", "dependencies", "dependentTasks"})
 @EqualsAndHashCode(exclude = {"event", "dependencies", "dependentTasks"})
+// Updates write only the changed columns, so a patch touching one field is a one-column UPDATE.
+@DynamicUpdate
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
+    // Checked by every update; a stale write fails instead of silently overwriting a newer one.
+    @Version
+    private Long version;
+
     @NotBlank
     private String name;
 
@@ -93,7 +107,8 @@ public class Task {
     @JoinTable(
         name = "task_dependencies",
         joinColumns = @JoinColumn(name = "task_id"),
-        inverseJoinColumns = @JoinColumn(name = "dependency_id")
+        inverseJoinColumns = @JoinColumn(name = "dependency_id"),
+        indexes = @Index(name = "idx_task_dependencies_dependency", columnList = "dependency_id, task_id")
     )
     @Builder.Default
     private Set<Task> dependencies = new HashSet<>();
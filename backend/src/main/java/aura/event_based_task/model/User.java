@@ -8,7 +8,11 @@ import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -21,6 +25,8 @@ import java.util.Set;
     @Index(name = "idx_user_email", columnList = "email"),
     @Index(name = "idx_user_created_at", columnList = "created_at")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
 @Data
 public class User {
     @Id
@@ -29,6 +35,7 @@ public class User {
 
     @NotBlank
     @Size(max = 20)
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String username;
 
@@ -64,6 +71,7 @@ public class User {
     @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
     @Enumerated(EnumType.STRING)
     @Column(name = "role_name")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-roles")
     private Set<ERole> roles = new HashSet<>();
 
     // *** FIX: Added cascade types to help Hibernate manage the relationship. ***
@@ -0,0 +1,70 @@
+package aura.event_based_task.notification;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process stand-in for the SMTP server. Messages are built exactly as for real delivery
+ * and kept in memory (the most recent {@value #RETAINED}) instead of being transmitted, so the
+ * pipeline can be exercised locally without a mail server. {@link #failNext(int)} simulates
+ * SMTP outages to exercise retry and backoff.
+ */
+public class InMemoryMailSender extends JavaMailSenderImpl {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryMailSender.class);
+    private static final int RETAINED = 500;
+
+    private final Deque<MimeMessage> sent = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger failuresToSimulate = new AtomicInteger();
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+        if (failuresToSimulate.getAndUpdate(n -> Math.max(n - 1, 0)) > 0) {
+            throw new MailSendException("Simulated SMTP failure");
+        }
+        for (MimeMessage message : mimeMessages) {
+            try {
+                message.saveChanges();
+                logger.info("Mail stub: to={} subject={}", String.join(",", toStrings(message)), message.getSubject());
+            } catch (MessagingException ex) {
+                throw new MailSendException("Invalid message", ex);
+            }
+            sent.addLast(message);
+            while (sent.size() > RETAINED) {
+                sent.pollFirst();
+            }
+        }
+    }
+
+    public List<MimeMessage> getSentMessages() {
+        return new ArrayList<>(sent);
+    }
+
+    public void clear() {
+        sent.clear();
+    }
+
+    public void failNext(int count) {
+        failuresToSimulate.set(count);
+    }
+
+    private static List<String> toStrings(MimeMessage message) throws MessagingException {
+        List<String> recipients = new ArrayList<>();
+        if (message.getAllRecipients() != null) {
+            for (var address : message.getAllRecipients()) {
+                recipients.add(address.toString());
+            }
+        }
+        return recipients;
+    }
+}
@@ -0,0 +1,177 @@
+package aura.event_based_task.notification;
+
+import aura.event_based_task.config.NotificationConfig;
+import aura.event_based_task.model.ENotificationStatus;
+import aura.event_based_task.model.Notification;
+import aura.event_based_task.model.User;
+import aura.event_based_task.repository.NotificationRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the notification queue. Each poll claims the due recipients' pending rows (PENDING to
+ * SENDING), folds them into one digest mail per recipient and hands the digests to a bounded
+ * SMTP pool. Success marks the rows SENT; failure puts them back to PENDING with exponential
+ * backoff until {@code max-attempts}, then FAILED. Claims carry a deadline, so rows stranded
+ * in SENDING by a crash go back to PENDING on a later poll.
+ */
+@Component
+public class NotificationDigestSender {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDigestSender.class);
+
+    static final int MAX_SUBJECT_LENGTH = 120;
+
+    private final NotificationRepository notificationRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationConfig config;
+    private final ThreadPoolExecutor smtpPool;
+
+    public NotificationDigestSender(NotificationRepository notificationRepository,
+                                    JavaMailSender mailSender,
+                                    TransactionTemplate transactionTemplate,
+                                    NotificationConfig config) {
+        this.notificationRepository = notificationRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.config = config;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.smtpPool = new ThreadPoolExecutor(config.getSenderThreads(), config.getSenderThreads(),
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(config.getSenderQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-smtp-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        smtpPool.shutdown();
+        smtpPool.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.poll-interval-ms:15000}")
+    public void poll() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Integer released = transactionTemplate.execute(status -> notificationRepository.releaseExpiredClaims(now));
+        if (released != null && released > 0) {
+            logger.warn("Released {} notifications whose send claim expired", released);
+        }
+
+        int capacity = smtpPool.getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+        List<Long> recipients = notificationRepository.findDueRecipientIds(ENotificationStatus.PENDING, now,
+                PageRequest.of(0, Math.min(capacity, config.getRecipientsPerPoll())));
+        for (Long recipientId : recipients) {
+            Digest digest = claim(recipientId);
+            if (digest == null) {
+                continue;
+            }
+            try {
+                smtpPool.execute(() -> send(digest));
+            } catch (RejectedExecutionException ex) {
+                transactionTemplate.executeWithoutResult(status -> notificationRepository.transition(
+                        digest.ids(), ENotificationStatus.SENDING, ENotificationStatus.PENDING, now));
+                return;
+            }
+        }
+    }
+
+    private Digest claim(Long recipientId) {
+        return transactionTemplate.execute(status -> {
+            List<Notification> pending = notificationRepository.findByRecipientAndStatus(recipientId, ENotificationStatus.PENDING);
+            if (pending.isEmpty()) {
+                return null;
+            }
+            List<Long> ids = pending.stream().map(Notification::getId).toList();
+            int claimed = notificationRepository.transition(ids, ENotificationStatus.PENDING, ENotificationStatus.SENDING,
+                    LocalDateTime.now().plus(config.getClaimTimeout()));
+            if (claimed != ids.size()) {
+                // Another instance got there first; leave the rows to it.
+                status.setRollbackOnly();
+                return null;
+            }
+            User recipient = pending.get(0).getRecipient();
+            int attempts = pending.stream().mapToInt(Notification::getAttempts).max().orElse(0);
+            return new Digest(ids, recipient.getEmail(), recipient.getUsername(),
+                    pending.stream().map(Notification::getMessage).toList(), attempts);
+        });
+    }
+
+    private void send(Digest digest) {
+        if (!StringUtils.hasText(digest.email())) {
+            recordFailure(digest, "Recipient has no email address", true);
+            return;
+        }
+        try {
+            mailSender.send(compose(digest));
+            transactionTemplate.executeWithoutResult(status -> notificationRepository.markSent(digest.ids(), LocalDateTime.now()));
+            logger.debug("Sent digest of {} notifications to {}", digest.messages().size(), digest.username());
+        } catch (MailException ex) {
+            recordFailure(digest, ex.getMessage(), false);
+        }
+    }
+
+    private SimpleMailMessage compose(Digest digest) {
+        SimpleMailMessage mail = new SimpleMailMessage();
+        mail.setFrom(config.getFrom());
+        mail.setTo(digest.email());
+        int count = digest.messages().size();
+        mail.setSubject(count == 1 ? subject(digest.messages().get(0)) : "You have " + count + " new notifications");
+        StringBuilder body = new StringBuilder("Hi ").append(digest.username()).append(",\n\n");
+        digest.messages().forEach(message -> body.append("- ").append(message).append('\n'));
+        mail.setText(body.toString());
+        return mail;
+    }
+
+    // Message text can come from chat: no line breaks or other control characters in a header, and a bounded length.
+    static String subject(String message) {
+        String line = message.replaceAll("[\\p{Cntrl}\\u0085\\u2028\\u2029]+", " ").replaceAll("\\s{2,}", " ").strip();
+        return line.length() <= MAX_SUBJECT_LENGTH ? line : line.substring(0, MAX_SUBJECT_LENGTH - 3).stripTrailing() + "...";
+    }
+
+    private void recordFailure(Digest digest, String error, boolean permanent) {
+        int attempts = digest.attempts() + 1;
+        boolean giveUp = permanent || attempts >= config.getMaxAttempts();
+        LocalDateTime retryAt = LocalDateTime.now().plus(config.backoffFor(attempts));
+        transactionTemplate.executeWithoutResult(status -> notificationRepository.findAllById(digest.ids()).forEach(n -> {
+            n.setAttempts(attempts);
+            n.setLastError(error == null ? null : error.substring(0, Math.min(error.length(), 500)));
+            n.setStatus(giveUp ? ENotificationStatus.FAILED : ENotificationStatus.PENDING);
+            n.setNextAttemptAt(retryAt);
+        }));
+        if (giveUp) {
+            logger.error("Giving up on {} notifications for {} after {} attempts: {}",
+                    digest.ids().size(), digest.username(), attempts, error);
+        } else {
+            logger.warn("Digest for {} failed (attempt {}), retrying at {}: {}", digest.username(), attempts, retryAt, error);
+        }
+    }
+
+    private record Digest(List<Long> ids, String email, String username, List<String> messages, int attempts) {
+    }
+}
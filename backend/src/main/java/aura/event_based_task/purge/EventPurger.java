@@ -0,0 +1,197 @@
+package aura.event_based_task.purge;
+
+import aura.event_based_task.domain.EventDeletedEvent;
+import aura.event_based_task.model.EPurgeStatus;
+import aura.event_based_task.model.EventPurge;
+import aura.event_based_task.repository.EventPurgeRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Removes the children of soft-deleted events. Tasks and chat messages go in chunks of
+ * {@code app.purge.chunk-size} ids, each chunk a set-based DELETE in its own short transaction
+ * that also advances the {@link EventPurge} counters; the memberships and the event row go last.
+ * Plain JDBC keeps the rows out of the persistence context entirely.
+ *
+ * <p>Purges start right after the deleting transaction commits. A poll picks up purges left
+ * unfinished by a restart or a failure; every step is idempotent, so resuming is safe.
+ */
+@Component
+public class EventPurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventPurger.class);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventPurgeRepository purgeRepository;
+
+    @Value("${app.purge.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.purge.max-attempts:5}")
+    private int maxAttempts;
+
+    // One purge at a time keeps the delete load on the database flat.
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "event-purger");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    public EventPurger(NamedParameterJdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate,
+                       EventPurgeRepository purgeRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.purgeRepository = purgeRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventDeleted(EventDeletedEvent event) {
+        submit(event.eventId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.purge.poll-interval-ms:60000}",
+            initialDelayString = "${app.purge.poll-interval-ms:60000}")
+    public void resumeUnfinished() {
+        purgeRepository.findResumable(List.of(EPurgeStatus.PENDING, EPurgeStatus.RUNNING, EPurgeStatus.FAILED), maxAttempts)
+                .forEach(this::submit);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(Long eventId) {
+        if (!queued.add(eventId)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                purge(eventId);
+            } finally {
+                queued.remove(eventId);
+            }
+        });
+    }
+
+    private void purge(Long eventId) {
+        long start = System.nanoTime();
+        try {
+            if (!start(eventId)) {
+                return;
+            }
+            long tasks = 0;
+            int deleted;
+            while ((deleted = deleteTaskChunk(eventId)) > 0) {
+                tasks += deleted;
+                logger.debug("Purge of event {}: {} tasks deleted", eventId, tasks);
+            }
+            long messages = 0;
+            while ((deleted = deleteMessageChunk(eventId)) > 0) {
+                messages += deleted;
+                logger.debug("Purge of event {}: {} chat messages deleted", eventId, messages);
+            }
+            finish(eventId);
+            logger.info("Event {} purged: {} tasks, {} chat messages in {} ms",
+                    eventId, tasks, messages, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException ex) {
+            logger.error("Purge of event {} failed, will be retried", eventId, ex);
+            String error = ex.getMessage() == null ? ex.getClass().getName() : ex.getMessage();
+            transactionTemplate.executeWithoutResult(status -> purgeRepository.findById(eventId).ifPresent(purge -> {
+                purge.setStatus(EPurgeStatus.FAILED);
+                purge.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+            }));
+        }
+    }
+
+    // Counts what is left and marks the purge running; false when there is nothing to do.
+    private boolean start(Long eventId) {
+        Boolean started = transactionTemplate.execute(status -> {
+            EventPurge purge = purgeRepository.findById(eventId).orElse(null);
+            if (purge == null || purge.getStatus() == EPurgeStatus.DONE) {
+                return false;
+            }
+            MapSqlParameterSource params = new MapSqlParameterSource("eventId", eventId);
+            if (purge.getTasksTotal() == null) {
+                purge.setTasksTotal(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM tasks WHERE event_id = :eventId", params, Long.class));
+                purge.setMessagesTotal(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM chat_messages WHERE event_id = :eventId", params, Long.class));
+            }
+            purge.setStatus(EPurgeStatus.RUNNING);
+            purge.setAttempts(purge.getAttempts() + 1);
+            if (purge.getStartedAt() == null) {
+                purge.setStartedAt(LocalDateTime.now());
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(started);
+    }
+
+    private int deleteTaskChunk(Long eventId) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> ids = nextChunk("SELECT id FROM tasks WHERE event_id = :eventId ORDER BY id LIMIT :limit", eventId);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+            // Dependencies may point across events, so both sides of the join table are cleared.
+            jdbcTemplate.update("DELETE FROM task_dependencies WHERE task_id IN (:ids) OR dependency_id IN (:ids)", params);
+            int count = jdbcTemplate.update("DELETE FROM tasks WHERE id IN (:ids)", params);
+            purgeRepository.addProgress(eventId, count, 0);
+            return count;
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    private int deleteMessageChunk(Long eventId) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> ids = nextChunk("SELECT id FROM chat_messages WHERE event_id = :eventId ORDER BY id LIMIT :limit", eventId);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            int count = jdbcTemplate.update("DELETE FROM chat_messages WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids));
+            purgeRepository.addProgress(eventId, 0, count);
+            return count;
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    private List<Long> nextChunk(String sql, Long eventId) {
+        return jdbcTemplate.queryForList(sql,
+                new MapSqlParameterSource("eventId", eventId).addValue("limit", chunkSize), Long.class);
+    }
+
+    private void finish(Long eventId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            MapSqlParameterSource params = new MapSqlParameterSource("eventId", eventId);
+            jdbcTemplate.update("DELETE FROM event_members WHERE event_id = :eventId", params);
+            // Only ever removes a soft-deleted row.
+            jdbcTemplate.update("DELETE FROM events WHERE id = :eventId AND deleted_at IS NOT NULL", params);
+            purgeRepository.findById(eventId).ifPresent(purge -> {
+                purge.setStatus(EPurgeStatus.DONE);
+                purge.setLastError(null);
+                purge.setCompletedAt(LocalDateTime.now());
+            });
+        });
+    }
+}
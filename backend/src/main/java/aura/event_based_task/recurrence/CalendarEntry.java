@@ -0,0 +1,8 @@
+package aura.event_based_task.recurrence;
+
+import java.time.LocalDate;
+
+// The columns a calendar needs, read by constructor expression instead of hydrating events.
+public record CalendarEntry(Long id, String name, LocalDate date, String location, String category,
+                            String recurrencePattern) {
+}
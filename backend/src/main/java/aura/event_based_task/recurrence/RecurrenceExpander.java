@@ -0,0 +1,45 @@
+package aura.event_based_task.recurrence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Expands rules over date windows, one calendar month at a time, and caches each month's
+ * occurrences per rule. Calendar views ask for overlapping windows (this month, next month,
+ * the visible six weeks), and the month buckets let them share work. Rules are immutable
+ * values, so a changed pattern is simply a different key and nothing needs invalidating.
+ */
+@Component
+public class RecurrenceExpander {
+
+    private record MonthKey(RecurrenceRule rule, YearMonth month) {
+    }
+
+    private final Cache<MonthKey, List<LocalDate>> months = Caffeine.newBuilder()
+            .maximumSize(20_000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    public Stream<LocalDate> occurrences(RecurrenceRule rule, LocalDate from, LocalDate to) {
+        LocalDate start = from.isBefore(rule.start()) ? rule.start() : from;
+        if (start.isAfter(to)) {
+            return Stream.empty();
+        }
+        YearMonth last = YearMonth.from(to);
+        return Stream.iterate(YearMonth.from(start), month -> !month.isAfter(last), month -> month.plusMonths(1))
+                .flatMap(month -> months.get(new MonthKey(rule, month),
+                        key -> rule.between(month.atDay(1), month.atEndOfMonth()).toList()).stream())
+                .filter(date -> !date.isBefore(start) && !date.isAfter(to));
+    }
+
+    public long cachedMonths() {
+        return months.estimatedSize();
+    }
+}
@@ -0,0 +1,128 @@
+package aura.event_based_task.recurrence;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * A parsed {@code Event.recurrencePattern}, anchored at the event's date. The pattern is a
+ * frequency optionally followed by RRULE-style parts, e.g. {@code WEEKLY},
+ * {@code WEEKLY;INTERVAL=2;COUNT=10} or {@code MONTHLY;UNTIL=2026-06-30}.
+ *
+ * <p>The n-th occurrence is computed directly from the start ({@code start + n * interval
+ * units}), so any window can be expanded without walking the series from its beginning, and
+ * monthly rules on the 31st land on the last day of shorter months without drifting.
+ * Records compare by value, so identical rules share expansion cache entries.
+ */
+public record RecurrenceRule(LocalDate start, Frequency frequency, int interval, Integer count, LocalDate until) {
+
+    public enum Frequency {
+        DAILY(ChronoUnit.DAYS),
+        WEEKLY(ChronoUnit.WEEKS),
+        MONTHLY(ChronoUnit.MONTHS),
+        YEARLY(ChronoUnit.YEARS);
+
+        private final ChronoUnit unit;
+
+        Frequency(ChronoUnit unit) {
+            this.unit = unit;
+        }
+    }
+
+    public static RecurrenceRule parse(String pattern, LocalDate start) {
+        if (pattern == null || pattern.isBlank() || start == null) {
+            throw new IllegalArgumentException("A recurrence needs a pattern and a start date");
+        }
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDate until = null;
+        for (String raw : pattern.trim().toUpperCase(Locale.ROOT).split(";")) {
+            String part = raw.trim();
+            int equals = part.indexOf('=');
+            String key = equals < 0 ? "FREQ" : part.substring(0, equals).trim();
+            String value = equals < 0 ? part : part.substring(equals + 1).trim();
+            try {
+                switch (key) {
+                    case "FREQ" -> frequency = parseFrequency(value);
+                    case "INTERVAL" -> interval = Integer.parseInt(value);
+                    case "COUNT" -> count = Integer.parseInt(value);
+                    case "UNTIL" -> until = LocalDate.parse(value);
+                    default -> throw new IllegalArgumentException("Unknown recurrence part '" + part + "'");
+                }
+            } catch (NumberFormatException | DateTimeParseException ex) {
+                throw new IllegalArgumentException("Invalid recurrence part '" + part + "'");
+            }
+        }
+        if (frequency == null) {
+            throw new IllegalArgumentException("Recurrence pattern needs DAILY, WEEKLY, MONTHLY or YEARLY");
+        }
+        if (interval < 1 || (count != null && count < 1)) {
+            throw new IllegalArgumentException("INTERVAL and COUNT must be at least 1");
+        }
+        if (until != null && until.isBefore(start)) {
+            throw new IllegalArgumentException("UNTIL is before the first occurrence");
+        }
+        return new RecurrenceRule(start, frequency, interval, count, until);
+    }
+
+    private static Frequency parseFrequency(String value) {
+        for (Frequency frequency : Frequency.values()) {
+            if (frequency.name().equals(value)) {
+                return frequency;
+            }
+        }
+        throw new IllegalArgumentException("Unknown recurrence frequency '" + value + "'");
+    }
+
+    public static Optional<RecurrenceRule> tryParse(String pattern, LocalDate start) {
+        try {
+            return Optional.of(parse(pattern, start));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /** The occurrences in [from, to], lazily, in order. */
+    public Stream<LocalDate> between(LocalDate from, LocalDate to) {
+        LocalDate last = until != null && until.isBefore(to) ? until : to;
+        if (last.isBefore(start) || last.isBefore(from)) {
+            return Stream.empty();
+        }
+        long first = firstIndexOnOrAfter(from);
+        return LongStream.iterate(first, index -> count == null || index < count, index -> index + 1)
+                .mapToObj(this::occurrence)
+                .takeWhile(date -> !date.isAfter(last));
+    }
+
+    public Optional<LocalDate> firstOnOrAfter(LocalDate date) {
+        LocalDate far = until != null ? until : LocalDate.MAX.minusYears(1);
+        return between(date, far).findFirst();
+    }
+
+    private LocalDate occurrence(long index) {
+        long amount = index * interval;
+        return switch (frequency) {
+            case DAILY -> start.plusDays(amount);
+            case WEEKLY -> start.plusWeeks(amount);
+            case MONTHLY -> start.plusMonths(amount);
+            case YEARLY -> start.plusYears(amount);
+        };
+    }
+
+    // Jumps close to the target by arithmetic, then steps over the month-length clamping slack.
+    private long firstIndexOnOrAfter(LocalDate from) {
+        if (!from.isAfter(start)) {
+            return 0;
+        }
+        long index = Math.max(0, frequency.unit.between(start, from) / interval - 1);
+        while (occurrence(index).isBefore(from)) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,35 @@
+package aura.event_based_task.repository;
+
+import aura.event_based_task.model.Blob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface BlobRepository extends JpaRepository<Blob, String> {
+
+    @Modifying
+    @Query("UPDATE Blob b SET b.refCount = b.refCount + :delta, b.updatedAt = :now WHERE b.hash = :hash")
+    int adjustRefCount(@Param("hash") String hash, @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+    // Pushes the row out of the GC grace period, e.g. when the same content is uploaded again.
+    @Modifying
+    @Query("UPDATE Blob b SET b.updatedAt = :now WHERE b.hash = :hash")
+    int touch(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+    @Query("SELECT b FROM Blob b WHERE b.refCount <= 0 AND b.updatedAt < :cutoff ORDER BY b.updatedAt")
+    List<Blob> findUnreferenced(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // Re-checks the condition at delete time, so a blob referenced since it was selected survives.
+    @Modifying
+    @Query("DELETE FROM Blob b WHERE b.hash = :hash AND b.refCount <= 0 AND b.updatedAt < :cutoff")
+    int deleteIfUnreferenced(@Param("hash") String hash, @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT b.hash FROM Blob b WHERE b.hash IN :hashes")
+    List<String> findExistingHashes(@Param("hashes") Collection<String> hashes);
+}
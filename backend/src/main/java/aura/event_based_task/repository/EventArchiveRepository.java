@@ -0,0 +1,17 @@
+package aura.event_based_task.repository;
+
+import aura.event_based_task.model.EventArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface EventArchiveRepository extends JpaRepository<EventArchive, Long> {
+
+    // Primary-key lookup on event_archive_members; the payload is never read.
+    @Query("SELECT COUNT(a) > 0 FROM EventArchive a JOIN a.memberIds m WHERE a.eventId = :eventId AND m = :userId")
+    boolean isMember(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    @Query("SELECT COUNT(a) > 0 FROM EventArchive a JOIN a.memberIds m, User u "
+            + "WHERE a.eventId = :eventId AND u.id = m AND u.username = :username")
+    boolean isMemberByUsername(@Param("eventId") Long eventId, @Param("username") String username);
+}
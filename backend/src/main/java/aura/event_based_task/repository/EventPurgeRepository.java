@@ -0,0 +1,23 @@
+package aura.event_based_task.repository;
+
+import aura.event_based_task.model.EPurgeStatus;
+import aura.event_based_task.model.EventPurge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EventPurgeRepository extends JpaRepository<EventPurge, Long> {
+
+    // Purges left unfinished by a crash or a failed attempt, oldest first.
+    @Query("SELECT p.eventId FROM EventPurge p WHERE p.status IN :statuses AND p.attempts < :maxAttempts ORDER BY p.requestedAt")
+    List<Long> findResumable(@Param("statuses") Collection<EPurgeStatus> statuses, @Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("UPDATE EventPurge p SET p.tasksDeleted = p.tasksDeleted + :tasks, p.messagesDeleted = p.messagesDeleted + :messages "
+            + "WHERE p.eventId = :eventId")
+    int addProgress(@Param("eventId") Long eventId, @Param("tasks") long tasks, @Param("messages") long messages);
+}
@@ -1,18 +1,23 @@
 package aura.event_based_task.repository;
 
+import aura.event_based_task.dto.CalendarStamp;
 import aura.event_based_task.model.Event;
 import aura.event_based_task.model.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import aura.event_based_task.recurrence.CalendarEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
     boolean existsByNameAndDate(String name, LocalDate date);
     boolean existsByName(String name);
 
@@ -26,9 +31,46 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     @Query("SELECT COUNT(e) > 0 FROM Event e JOIN e.members m WHERE e.id = :eventId AND m.username = :username")
     boolean isUserMember(@Param("eventId") Long eventId, @Param("username") String username);
+
+    @Query("SELECT m FROM Event e JOIN e.members m WHERE e.id = :eventId AND m.username IN :usernames")
+    List<User> findMembersByUsernames(@Param("eventId") Long eventId, @Param("usernames") Collection<String> usernames);
     
-    // Pagination and filtering methods
-    Page<Event> findByCategoryContainingIgnoreCase(String category, Pageable pageable);
-    Page<Event> findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String name, String description, Pageable pageable);
-    Page<Event> findByCategoryContainingIgnoreCaseAndNameContainingIgnoreCase(String category, String name, Pageable pageable);
+    // A bulk update rather than a dirty entity: it also invalidates the "event" cache region, so a
+    // cached copy cannot bring the event back past the @Where filter.
+    @Modifying
+    @Query("UPDATE Event e SET e.deletedAt = :now WHERE e.id = :eventId AND e.deletedAt IS NULL")
+    int softDelete(@Param("eventId") Long eventId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT new aura.event_based_task.recurrence.CalendarEntry(e.id, e.name, e.date, e.location, e.category, e.recurrencePattern) "
+            + "FROM Event e WHERE e.date >= :from AND e.date <= :to AND (e.isRecurring IS NULL OR e.isRecurring = false) "
+            + "ORDER BY e.date, e.id")
+    List<CalendarEntry> findOneOffCalendarEntries(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Every series that has started by the end of the window; UNTIL and COUNT live in the pattern.
+    @Query("SELECT new aura.event_based_task.recurrence.CalendarEntry(e.id, e.name, e.date, e.location, e.category, e.recurrencePattern) "
+            + "FROM Event e WHERE e.isRecurring = true AND e.date <= :to")
+    List<CalendarEntry> findRecurringCalendarEntries(@Param("to") LocalDate to);
+
+    @Query("SELECT new aura.event_based_task.recurrence.CalendarEntry(e.id, e.name, e.date, e.location, e.category, e.recurrencePattern) "
+            + "FROM Event e JOIN e.members m WHERE m.username = :username AND e.date >= :from AND e.date <= :to "
+            + "AND (e.isRecurring IS NULL OR e.isRecurring = false) ORDER BY e.date, e.id")
+    List<CalendarEntry> findOneOffCalendarEntriesForMember(@Param("username") String username,
+                                                           @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT new aura.event_based_task.recurrence.CalendarEntry(e.id, e.name, e.date, e.location, e.category, e.recurrencePattern) "
+            + "FROM Event e JOIN e.members m WHERE m.username = :username AND e.isRecurring = true AND e.date <= :to")
+    List<CalendarEntry> findRecurringCalendarEntriesForMember(@Param("username") String username, @Param("to") LocalDate to);
+
+    // The member's events the two queries above read, aggregated in one pass for the calendar's ETag.
+    @Query("SELECT new aura.event_based_task.dto.CalendarStamp(COUNT(e), SUM(e.id), SUM(e.version), MAX(e.updatedAt)) "
+            + "FROM Event e JOIN e.members m WHERE m.username = :username AND e.date <= :to "
+            + "AND (e.date >= :from OR e.isRecurring = true)")
+    CalendarStamp stampCalendarEntriesForMember(@Param("username") String username,
+                                                @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // The pattern is only returned for recurring events, so a non-null pattern marks a series.
+    @Query("SELECT new aura.event_based_task.recurrence.CalendarEntry(e.id, e.name, e.date, e.location, e.category, "
+            + "CASE WHEN e.isRecurring = true THEN e.recurrencePattern ELSE NULL END) "
+            + "FROM Event e JOIN e.members m WHERE m.username = :username ORDER BY e.date, e.id")
+    List<CalendarEntry> findMemberEntries(@Param("username") String username);
 }
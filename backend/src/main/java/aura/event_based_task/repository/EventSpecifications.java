@@ -0,0 +1,62 @@
+package aura.event_based_task.repository;
+
+import aura.event_based_task.facet.TagMatch;
+import aura.event_based_task.model.Event;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+
+/** Composable filters for the event list; each one is a no-op when its argument is absent. */
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    // Compares EventTags.categoryKey, trimmed and lower case; served by idx_event_category_lower on PostgreSQL.
+    public static Specification<Event> categoryIs(String categoryKey) {
+        return (root, query, cb) -> categoryKey == null ? null
+                : cb.equal(cb.lower(cb.trim(root.get("category"))), categoryKey);
+    }
+
+    /**
+     * Events carrying any (or all) of the normalized tags, as a semi-join on event_tags by
+     * tag (idx_event_tags_tag). ALL groups the matches per event and requires every tag.
+     */
+    public static Specification<Event> hasTags(Set<String> tags, TagMatch match) {
+        return (root, query, cb) -> {
+            if (tags.isEmpty()) {
+                return null;
+            }
+            Subquery<Long> tagged = query.subquery(Long.class);
+            Root<Event> event = tagged.from(Event.class);
+            Join<Event, String> tag = event.join("tagIndex");
+            tagged.select(event.get("id")).where(tag.in(tags));
+            if (match == TagMatch.ALL) {
+                tagged.groupBy(event.get("id")).having(cb.equal(cb.count(tag), (long) tags.size()));
+            }
+            return root.get("id").in(tagged);
+        };
+    }
+
+    public static Specification<Event> idIs(Long id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    public static Specification<Event> hasMember(String username) {
+        return (root, query, cb) -> cb.equal(root.join("members").get("username"), username);
+    }
+
+    public static Specification<Event> nameOrDescriptionContains(String search) {
+        return (root, query, cb) -> {
+            if (search == null) {
+                return null;
+            }
+            String pattern = "%" + search.toLowerCase() + "%";
+            return cb.or(cb.like(cb.lower(root.get("name")), pattern),
+                    cb.like(cb.lower(root.get("description")), pattern));
+        };
+    }
+}
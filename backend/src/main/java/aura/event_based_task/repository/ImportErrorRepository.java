@@ -0,0 +1,12 @@
+package aura.event_based_task.repository;
+
+import aura.event_based_task.model.ImportError;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ImportErrorRepository extends JpaRepository<ImportError, Long> {
+
+    List<ImportError> findByJobIdOrderByLine(Long jobId, Pageable pageable);
+}
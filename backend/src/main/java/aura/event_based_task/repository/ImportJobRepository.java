@@ -0,0 +1,29 @@
+package aura.event_based_task.repository;
+
+import aura.event_based_task.model.ImportJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    List<ImportJob> findByUsernameOrderByCreatedAtDesc(String username, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.rowsImported = j.rowsImported + :imported, j.rowsFailed = j.rowsFailed + :failed, "
+            + "j.updatedAt = :now WHERE j.id = :jobId")
+    int addProgress(@Param("jobId") Long jobId, @Param("imported") long imported, @Param("failed") long failed,
+                    @Param("now") LocalDateTime now);
+
+    // Jobs whose importing request died with the instance that ran it.
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = aura.event_based_task.model.EImportStatus.FAILED, "
+            + "j.message = 'Interrupted', j.completedAt = :now "
+            + "WHERE j.status = aura.event_based_task.model.EImportStatus.RUNNING AND j.updatedAt < :cutoff")
+    int failStale(@Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+}
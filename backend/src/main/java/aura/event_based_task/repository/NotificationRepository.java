@@ -0,0 +1,49 @@
+package aura.event_based_task.repository;
+
+import aura.event_based_task.model.ENotificationStatus;
+import aura.event_based_task.model.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    @Query("SELECT DISTINCT n.recipient.id FROM Notification n WHERE n.status = :status AND n.nextAttemptAt <= :now")
+    List<Long> findDueRecipientIds(@Param("status") ENotificationStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT n FROM Notification n JOIN FETCH n.recipient WHERE n.recipient.id = :recipientId AND n.status = :status ORDER BY n.createdAt")
+    List<Notification> findByRecipientAndStatus(@Param("recipientId") Long recipientId, @Param("status") ENotificationStatus status);
+
+    // Guarded by the expected status so two pollers can never claim the same rows.
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = :to, n.nextAttemptAt = :nextAttemptAt WHERE n.id IN :ids AND n.status = :from")
+    int transition(@Param("ids") Collection<Long> ids, @Param("from") ENotificationStatus from,
+                   @Param("to") ENotificationStatus to, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = aura.event_based_task.model.ENotificationStatus.PENDING "
+            + "WHERE n.status = aura.event_based_task.model.ENotificationStatus.SENDING AND n.nextAttemptAt <= :now")
+    int releaseExpiredClaims(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = aura.event_based_task.model.ENotificationStatus.SENT, n.sentAt = :now WHERE n.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // One statement for the whole audience: everyone who shares an earlier event with the creator.
+    @Modifying
+    @Query(value = "INSERT INTO notification_queue (recipient_id, type, message, event_id, status, attempts, created_at, next_attempt_at) "
+            + "SELECT DISTINCT m.user_id, 'EVENT_CREATED', :message, :eventId, 'PENDING', 0, :now, :dueAt "
+            + "FROM event_members m JOIN events e ON e.id = m.event_id AND e.deleted_at IS NULL "
+            + "WHERE m.event_id IN (SELECT c.event_id FROM event_members c WHERE c.user_id = :creatorId) "
+            + "AND m.user_id <> :creatorId AND m.event_id <> :eventId",
+            nativeQuery = true)
+    int enqueueForCoMembers(@Param("creatorId") Long creatorId, @Param("eventId") Long eventId,
+                            @Param("message") String message, @Param("now") LocalDateTime now,
+                            @Param("dueAt") LocalDateTime dueAt);
+}
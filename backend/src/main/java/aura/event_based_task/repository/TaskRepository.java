@@ -1,9 +1,82 @@
 package aura.event_based_task.repository;
 
+import aura.event_based_task.board.TaskFacts;
+import aura.event_based_task.deadline.TaskDeadline;
+import aura.event_based_task.dto.CalendarDeadline;
+import aura.event_based_task.dto.CalendarStamp;
+import aura.event_based_task.dto.TaskStatusCount;
+import aura.event_based_task.dto.TaskSummary;
 import aura.event_based_task.model.Task;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByEventId(Long eventId);
-}
\ No newline at end of file
+
+    // Everything a board's counters are built from, via idx_task_event_status_covering.
+    @Query("SELECT new aura.event_based_task.board.TaskFacts(t.id, t.status, t.priority, t.estimatedHours, "
+            + "t.actualHours, t.deadline) FROM Task t WHERE t.event.id = :eventId")
+    List<TaskFacts> findBoardFacts(@Param("eventId") Long eventId);
+
+    // Range scan on idx_task_deadline; only the columns the reminder wheel needs.
+    @Query("SELECT new aura.event_based_task.deadline.TaskDeadline(t.id, t.event.id, t.deadline) FROM Task t "
+            + "WHERE t.deadline >= :from AND t.deadline < :to AND t.status <> aura.event_based_task.model.ETaskStatus.DONE "
+            + "AND t.event.deletedAt IS NULL")
+    List<TaskDeadline> findOpenDeadlinesBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Range scan on idx_task_deadline, narrowed to events the user belongs to.
+    @Query("SELECT new aura.event_based_task.dto.CalendarDeadline(t.id, e.id, t.name, t.status, t.priority, t.deadline, a.username) "
+            + "FROM Task t JOIN t.event e JOIN e.members m LEFT JOIN t.assignedTo a "
+            + "WHERE m.username = :username AND t.deadline >= :from AND t.deadline < :to AND e.deletedAt IS NULL "
+            + "ORDER BY t.deadline, t.id")
+    List<CalendarDeadline> findCalendarDeadlines(@Param("username") String username,
+                                                  @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // The same rows as findCalendarDeadlines, aggregated instead of read, for the calendar's ETag.
+    @Query("SELECT new aura.event_based_task.dto.CalendarStamp(COUNT(t), SUM(t.id), SUM(t.version), MAX(t.updatedAt)) "
+            + "FROM Task t JOIN t.event e JOIN e.members m "
+            + "WHERE m.username = :username AND t.deadline >= :from AND t.deadline < :to AND e.deletedAt IS NULL")
+    CalendarStamp stampCalendarDeadlines(@Param("username") String username,
+                                         @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // One grouped index-only scan over idx_task_event_status_covering for every event the user belongs to.
+    @Query("SELECT new aura.event_based_task.dto.TaskStatusCount(e.id, t.status, COUNT(t)) "
+            + "FROM Task t JOIN t.event e JOIN e.members m WHERE m.username = :username AND e.deletedAt IS NULL "
+            + "GROUP BY e.id, t.status")
+    List<TaskStatusCount> countByStatusForMember(@Param("username") String username);
+
+    @Query("SELECT new aura.event_based_task.dto.TaskSummary(t.id, e.id, t.name, t.status, t.priority, t.deadline) "
+            + "FROM Task t JOIN t.event e JOIN t.assignedTo a "
+            + "WHERE a.username = :username AND t.status <> aura.event_based_task.model.ETaskStatus.DONE "
+            + "AND e.deletedAt IS NULL ORDER BY t.deadline ASC NULLS LAST, t.id")
+    List<TaskSummary> findOpenAssignedTo(@Param("username") String username, Pageable pageable);
+
+    @Query("SELECT new aura.event_based_task.dto.TaskSummary(t.id, e.id, t.name, t.status, t.priority, t.deadline) "
+            + "FROM Task t JOIN t.event e JOIN e.members m "
+            + "WHERE m.username = :username AND t.deadline >= :from AND t.deadline < :to "
+            + "AND t.status <> aura.event_based_task.model.ETaskStatus.DONE AND e.deletedAt IS NULL "
+            + "ORDER BY t.deadline, t.id")
+    List<TaskSummary> findOpenDeadlinesForMember(@Param("username") String username, @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to, Pageable pageable);
+
+    // Null once the task's event has been soft-deleted, even before the purger reaches the task.
+    @Query("SELECT t FROM Task t JOIN t.event e WHERE t.id = :taskId AND e.deletedAt IS NULL")
+    Optional<Task> findLiveById(@Param("taskId") Long taskId);
+
+    @Query(value = "SELECT COUNT(*) > 0 FROM task_deadline_reminders "
+            + "WHERE task_id = :taskId AND reminder_type = :type AND deadline = :deadline", nativeQuery = true)
+    boolean isReminderSent(@Param("taskId") Long taskId, @Param("type") String type, @Param("deadline") LocalDateTime deadline);
+
+    @Modifying
+    @Query(value = "INSERT INTO task_deadline_reminders (task_id, reminder_type, deadline, sent_at) "
+            + "VALUES (:taskId, :type, :deadline, :sentAt)", nativeQuery = true)
+    void recordReminderSent(@Param("taskId") Long taskId, @Param("type") String type,
+                            @Param("deadline") LocalDateTime deadline, @Param("sentAt") LocalDateTime sentAt);
+}
@@ -4,7 +4,7 @@ import aura.event_based_task.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     Optional<User> findByUsername(String username);
     Boolean existsByUsername(String username);
 }
\ No newline at end of file
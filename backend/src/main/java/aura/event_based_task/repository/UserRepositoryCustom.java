@@ -0,0 +1,10 @@
+package aura.event_based_task.repository;
+
+import aura.event_based_task.model.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    // Resolves through the natural-id cache, so repeated lookups by username skip the database.
+    Optional<User> findByNaturalUsername(String username);
+}
@@ -1,9 +1,12 @@
 package aura.event_based_task.security;
 
+import aura.event_based_task.metrics.HotPathMetrics;
 import aura.event_based_task.model.Event;
 import aura.event_based_task.model.Task;
+import aura.event_based_task.repository.EventArchiveRepository;
 import aura.event_based_task.repository.EventRepository;
 import aura.event_based_task.repository.TaskRepository;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,6 +27,12 @@ public class CustomPermissionEvaluator implements PermissionEvaluator {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private EventArchiveRepository eventArchiveRepository;
+
+    @Autowired
+    private HotPathMetrics metrics;
+
     @Override
     public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
         return false;
@@ -45,6 +54,14 @@ public class CustomPermissionEvaluator implements PermissionEvaluator {
         logger.debug("Checking permission: userId={}, targetType={}, targetId={}, permission={}",
                 userId, targetType, targetId, perm);
 
+        Timer.Sample sample = metrics.start();
+        boolean granted = decide(userId, username, targetId, targetType, perm);
+        metrics.stop(sample, HotPathMetrics.PERMISSION_CHECK,
+                "target", targetType, "permission", String.valueOf(perm), "result", granted ? "granted" : "denied");
+        return granted;
+    }
+
+    private boolean decide(Long userId, String username, Serializable targetId, String targetType, String perm) {
         if ("Event".equalsIgnoreCase(targetType)) {
             Long eventId = (Long) targetId;
             // Pass the user's ID to the permission check method
@@ -72,8 +89,13 @@ public class CustomPermissionEvaluator implements PermissionEvaluator {
 
     private boolean hasEventPermission(Long userId, String username, Long eventId, String perm) {
         try {
-            Event event = eventRepository.findById(eventId)
-                    .orElseThrow(() -> new RuntimeException("Event not found"));
+            Event event = eventRepository.findById(eventId).orElse(null);
+            if (event == null) {
+                // Archived events are read-only: members may still read them, nobody administers them.
+                boolean archivedMember = "MEMBER".equals(perm) && eventArchiveRepository.isMember(eventId, userId);
+                logger.debug("Live event {} not found, archived member check: {}", eventId, archivedMember);
+                return archivedMember;
+            }
 
             if ("ADMIN".equals(perm)) {
                 // *** FIX: Compare numeric user IDs instead of usernames for a more reliable check. ***
@@ -1,5 +1,7 @@
 package aura.event_based_task.security;
 
+import aura.event_based_task.metrics.HotPathMetrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +25,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtTokenProvider tokenProvider;
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
+    @Autowired
+    private HotPathMetrics metrics;
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
@@ -31,7 +35,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && tokenProvider.validateJwtToken(jwt)) {
+            if (jwt != null && isValid(jwt)) {
                 String username = tokenProvider.getUserNameFromJwtToken(jwt);
 
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
@@ -48,6 +52,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private boolean isValid(String jwt) {
+        Timer.Sample sample = metrics.start();
+        boolean valid = tokenProvider.validateJwtToken(jwt);
+        metrics.stop(sample, HotPathMetrics.JWT_VALIDATION, "channel", "http", "outcome", valid ? "valid" : "invalid");
+        return valid;
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
@@ -1,6 +1,7 @@
 package aura.event_based_task.security;
 
 import aura.event_based_task.config.RateLimitConfig;
+import aura.event_based_task.metrics.HotPathMetrics;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -34,6 +35,9 @@ public class RateLimitFilter extends OncePerRequestFilter {
     @Autowired
     private CacheManager rateLimitCacheManager;
 
+    @Autowired
+    private HotPathMetrics metrics;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Override
@@ -51,6 +55,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
         // Apply rate limiting only to authentication endpoints for now
         if (isRateLimitedEndpoint(requestPath)) {
             if (isRateLimitExceeded(clientId)) {
+                metrics.rateLimitRejected(requestPath);
                 handleRateLimitExceeded(response, clientId);
                 return;
             }
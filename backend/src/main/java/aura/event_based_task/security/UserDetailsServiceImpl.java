@@ -1,5 +1,6 @@
 package aura.event_based_task.security;
 
+import aura.event_based_task.metrics.HotPathMetrics;
 import aura.event_based_task.model.User;
 import aura.event_based_task.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,10 +15,13 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    HotPathMetrics metrics;
+
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        User user = metrics.record(HotPathMetrics.USER_LOAD, () -> userRepository.findByNaturalUsername(username))
                 .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + username));
 
         return UserDetailsImpl.build(user);
@@ -0,0 +1,128 @@
+package aura.event_based_task.service;
+
+import aura.event_based_task.archive.ArchiveCodec;
+import aura.event_based_task.archive.ArchivedEvent;
+import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.model.Event;
+import aura.event_based_task.model.Task;
+import aura.event_based_task.model.User;
+import aura.event_based_task.payload.ChatMessageDto;
+import aura.event_based_task.repository.EventArchiveRepository;
+import aura.event_based_task.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Read-through to the archive for the detail endpoints: callers try the hot tables first and
+ * come here on a miss. Results are rebuilt as detached entities and DTOs in the shapes the live
+ * endpoints return, with {@code Event.archived} set. Decoded snapshots are kept in a small
+ * cache; archived events never change.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ArchiveService {
+
+    private final EventArchiveRepository archiveRepository;
+    private final UserRepository userRepository;
+    private final ArchiveCodec codec;
+    private final Cache<Long, ArchivedEvent> snapshots = Caffeine.newBuilder()
+            .maximumSize(200)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    public ArchiveService(EventArchiveRepository archiveRepository, UserRepository userRepository, ArchiveCodec codec) {
+        this.archiveRepository = archiveRepository;
+        this.userRepository = userRepository;
+        this.codec = codec;
+    }
+
+    public Optional<Event> findEvent(Long eventId) {
+        return snapshot(eventId).map(snapshot -> {
+            Map<Long, User> users = loadUsers(Stream.concat(snapshot.memberIds().stream(), Stream.of(snapshot.creatorId())));
+            Event event = new Event();
+            event.setId(snapshot.id());
+            event.setName(snapshot.name());
+            event.setDescription(snapshot.description());
+            event.setDate(snapshot.date());
+            event.setLocation(snapshot.location());
+            event.setMaxParticipants(snapshot.maxParticipants());
+            event.setCategory(snapshot.category());
+            event.setTags(snapshot.tags());
+            event.setImageUrl(snapshot.imageUrl());
+            event.setCreatedAt(snapshot.createdAt());
+            event.setCreatedBy(users.get(snapshot.creatorId()));
+            event.setMembers(snapshot.memberIds().stream().map(users::get).filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(HashSet::new)));
+            event.setArchived(true);
+            return event;
+        });
+    }
+
+    public Optional<List<Task>> findTasks(Long eventId) {
+        return snapshot(eventId).map(snapshot -> {
+            Map<Long, User> users = loadUsers(snapshot.tasks().stream()
+                    .flatMap(task -> Stream.of(task.assignedToId(), task.createdById())));
+            return snapshot.tasks().stream().map(archived -> {
+                Task task = new Task();
+                task.setId(archived.id());
+                task.setName(archived.name());
+                task.setDescription(archived.description());
+                task.setStatus(ETaskStatus.valueOf(archived.status()));
+                task.setPriority(archived.priority());
+                task.setDeadline(archived.deadline());
+                task.setEstimatedHours(archived.estimatedHours());
+                task.setActualHours(archived.actualHours());
+                task.setCreatedAt(archived.createdAt());
+                task.setUpdatedAt(archived.updatedAt());
+                task.setAssignedTo(archived.assignedToId() == null ? null : users.get(archived.assignedToId()));
+                task.setCreatedBy(archived.createdById() == null ? null : users.get(archived.createdById()));
+                // Id-only stubs: enough for the client to draw the dependency edges.
+                task.setDependencies(archived.dependencyIds().stream().map(id -> {
+                    Task dependency = new Task();
+                    dependency.setId(id);
+                    return dependency;
+                }).collect(Collectors.toCollection(HashSet::new)));
+                return task;
+            }).toList();
+        });
+    }
+
+    public Optional<List<ChatMessageDto>> findMessages(Long eventId) {
+        return snapshot(eventId).map(snapshot -> snapshot.messages().stream()
+                .map(message -> new ChatMessageDto(message.sender(), message.content()))
+                .toList());
+    }
+
+    public Optional<ArchivedEvent> findSnapshot(Long eventId) {
+        return snapshot(eventId);
+    }
+
+    private Optional<ArchivedEvent> snapshot(Long eventId) {
+        ArchivedEvent cached = snapshots.getIfPresent(eventId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<ArchivedEvent> loaded = archiveRepository.findById(eventId).map(archive -> codec.decode(archive.getPayload()));
+        loaded.ifPresent(snapshot -> snapshots.put(eventId, snapshot));
+        return loaded;
+    }
+
+    // One batched lookup for every user a snapshot mentions; users deleted since come back missing.
+    private Map<Long, User> loadUsers(Stream<Long> ids) {
+        Set<Long> wanted = ids.filter(Objects::nonNull).collect(Collectors.toSet());
+        return userRepository.findAllById(wanted).stream().collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+}
@@ -65,7 +65,7 @@ public class AuthService {
     }
 
     public User findByUsername(String username) {
-        return userRepository.findByUsername(username)
+        return userRepository.findByNaturalUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
     }
 }
\ No newline at end of file
@@ -0,0 +1,351 @@
+package aura.event_based_task.service;
+
+import aura.event_based_task.bulkimport.ImportFormat;
+import aura.event_based_task.bulkimport.ImportFormatException;
+import aura.event_based_task.bulkimport.RowSource;
+import aura.event_based_task.config.ImportConfig;
+import aura.event_based_task.domain.EventChangedEvent;
+import aura.event_based_task.domain.TaskChangedEvent;
+import aura.event_based_task.dto.CreateEventRequest;
+import aura.event_based_task.dto.CreateTaskRequest;
+import aura.event_based_task.dto.ImportJobReport;
+import aura.event_based_task.exception.ResourceNotFoundException;
+import aura.event_based_task.model.EImportStatus;
+import aura.event_based_task.model.EImportTarget;
+import aura.event_based_task.model.Event;
+import aura.event_based_task.model.ImportError;
+import aura.event_based_task.model.ImportJob;
+import aura.event_based_task.model.Task;
+import aura.event_based_task.model.User;
+import aura.event_based_task.recurrence.RecurrenceRule;
+import aura.event_based_task.repository.EventRepository;
+import aura.event_based_task.repository.ImportErrorRepository;
+import aura.event_based_task.repository.ImportJobRepository;
+import aura.event_based_task.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of events or tasks from a CSV or NDJSON request body. Rows are parsed as they
+ * arrive, bound to {@link CreateEventRequest} / {@link CreateTaskRequest} and validated with
+ * their constraints; valid rows are inserted {@code app.import.chunk-size} at a time, one
+ * transaction per chunk, which also advances the job's counters and records the chunk's
+ * rejected rows. A chunk that fails as a whole is retried row by row so one bad row cannot
+ * sink its neighbours.
+ *
+ * <p>Access is checked once per target event rather than per row. Imported events do not
+ * notify co-members; imported tasks notify their assignees and are published as
+ * {@link TaskChangedEvent}s like any other task, but not broadcast one by one.
+ */
+@Service
+public class BulkImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkImportService.class);
+
+    // Reports return at most this many errors; the rest stay queryable by line.
+    private static final int REPORT_ERRORS = 1000;
+
+    private record PendingRow(long line, Object request) {
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        // Inserts one validated row inside the chunk transaction; returns why it was rejected, or null.
+        String write(Object request);
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ImportJobRepository jobRepository;
+    private final ImportErrorRepository errorRepository;
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final StorageService storageService;
+    private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ImportConfig config;
+
+    public BulkImportService(ImportJobRepository jobRepository,
+                             ImportErrorRepository errorRepository,
+                             EventRepository eventRepository,
+                             UserRepository userRepository,
+                             NotificationService notificationService,
+                             StorageService storageService,
+                             AuthService authService,
+                             ApplicationEventPublisher eventPublisher,
+                             TransactionTemplate transactionTemplate,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             ImportConfig config) {
+        this.jobRepository = jobRepository;
+        this.errorRepository = errorRepository;
+        this.eventRepository = eventRepository;
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+        this.storageService = storageService;
+        this.authService = authService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.config = config;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer failed = transactionTemplate.execute(status -> jobRepository.failStale(now.minusMinutes(15), now));
+        if (failed != null && failed > 0) {
+            logger.warn("Marked {} interrupted import jobs as failed", failed);
+        }
+    }
+
+    public ImportJobReport runImport(EImportTarget target, ImportFormat format, InputStream body,
+                                     Charset charset, String username) {
+        User user = authService.findByUsername(username);
+        ImportJob job = transactionTemplate.execute(status ->
+                jobRepository.save(new ImportJob(username, target, format.name(), LocalDateTime.now())));
+        Class<?> requestType = target == EImportTarget.EVENTS ? CreateEventRequest.class : CreateTaskRequest.class;
+        RowWriter writer = target == EImportTarget.EVENTS ? eventWriter(user) : taskWriter(user);
+        ChunkState state = new ChunkState(job.getId());
+        long start = System.nanoTime();
+
+        try (RowSource rows = format.open(new BufferedReader(new InputStreamReader(body, charset)),
+                objectMapper, config.getMaxFieldLength())) {
+            RowSource.Row row;
+            while ((row = rows.next()) != null) {
+                if (row.error() != null) {
+                    state.reject(row.line(), row.error());
+                } else {
+                    bind(row, requestType, state);
+                }
+                if (state.pending.size() >= config.getChunkSize()) {
+                    flush(state, writer);
+                }
+            }
+            flush(state, writer);
+            complete(job.getId(), EImportStatus.COMPLETED, null);
+        } catch (ImportFormatException | IOException ex) {
+            flush(state, writer);
+            complete(job.getId(), EImportStatus.FAILED, ex.getMessage());
+        } catch (RuntimeException ex) {
+            logger.error("Import job {} failed", job.getId(), ex);
+            complete(job.getId(), EImportStatus.FAILED, "Import aborted: " + NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+        }
+        logger.info("Import job {} ({} {}, user={}) finished: {} imported, {} rejected in {} ms", job.getId(), format,
+                target, username, state.imported, state.failed, (System.nanoTime() - start) / 1_000_000);
+        return getReport(job.getId(), username);
+    }
+
+    public ImportJobReport getReport(Long jobId, String username) {
+        ImportJob job = jobRepository.findById(jobId)
+                .filter(found -> found.getUsername().equals(username))
+                .orElseThrow(() -> new ResourceNotFoundException("Import job", "id", jobId));
+        return new ImportJobReport(job, errorRepository.findByJobIdOrderByLine(jobId, PageRequest.of(0, REPORT_ERRORS)));
+    }
+
+    public List<ImportJob> getRecentJobs(String username) {
+        return jobRepository.findByUsernameOrderByCreatedAtDesc(username, PageRequest.of(0, 20));
+    }
+
+    private void bind(RowSource.Row row, Class<?> requestType, ChunkState state) {
+        Object request;
+        try {
+            request = objectMapper.treeToValue(row.values(), requestType);
+        } catch (JsonProcessingException ex) {
+            state.reject(row.line(), "Invalid value: " + ex.getOriginalMessage());
+            return;
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            state.reject(row.line(), violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining("; ")));
+            return;
+        }
+        state.pending.add(new PendingRow(row.line(), request));
+    }
+
+    private void flush(ChunkState state, RowWriter writer) {
+        if (state.pending.isEmpty() && state.errors.isEmpty()) {
+            return;
+        }
+        List<PendingRow> chunk = new ArrayList<>(state.pending);
+        state.pending.clear();
+        try {
+            commit(state, chunk, writer);
+        } catch (RuntimeException chunkFailure) {
+            logger.debug("Import job {}: chunk failed, retrying its {} rows one by one", state.jobId, chunk.size(), chunkFailure);
+            for (PendingRow row : chunk) {
+                try {
+                    commit(state, List.of(row), writer);
+                } catch (RuntimeException rowFailure) {
+                    state.reject(row.line(), "Rejected by the database: "
+                            + NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage());
+                }
+            }
+            if (!state.errors.isEmpty()) {
+                commit(state, List.of(), writer);
+            }
+        }
+    }
+
+    // One transaction: the rows, the job counters and every rejection collected since the last commit.
+    private void commit(ChunkState state, List<PendingRow> rows, RowWriter writer) {
+        List<ImportError> errors = new ArrayList<>();
+        int imported = transactionTemplate.execute(status -> {
+            errors.clear();
+            errors.addAll(state.errors);
+            int written = 0;
+            for (PendingRow row : rows) {
+                String error = writer.write(row.request());
+                if (error == null) {
+                    written++;
+                } else {
+                    errors.add(new ImportError(state.jobId, row.line(), error));
+                }
+            }
+            entityManager.flush();
+            int room = (int) Math.max(0, config.getMaxErrors() - state.failed);
+            if (room > 0) {
+                errorRepository.saveAll(errors.size() > room ? errors.subList(0, room) : errors);
+            }
+            jobRepository.addProgress(state.jobId, written, errors.size(), LocalDateTime.now());
+            return written;
+        });
+        state.errors.clear();
+        state.imported += imported;
+        state.failed += errors.size();
+    }
+
+    private void complete(Long jobId, EImportStatus status, String message) {
+        transactionTemplate.executeWithoutResult(tx -> jobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(status);
+            job.setMessage(message == null || message.length() <= 500 ? message : message.substring(0, 500));
+            job.setCompletedAt(LocalDateTime.now());
+            job.setUpdatedAt(job.getCompletedAt());
+        }));
+    }
+
+    private RowWriter eventWriter(User creator) {
+        return raw -> {
+            CreateEventRequest request = (CreateEventRequest) raw;
+            Event event = new Event(request.getName(), request.getDescription(), request.getDate(),
+                    request.getLocation(), entityManager.find(User.class, creator.getId()));
+            event.setMaxParticipants(request.getMaxParticipants());
+            event.setCategory(request.getCategory());
+            event.setTags(request.getTags());
+            event.setImageUrl(request.getImageUrl());
+            if (Boolean.TRUE.equals(request.getIsRecurring())) {
+                try {
+                    RecurrenceRule.parse(request.getRecurrencePattern(), request.getDate());
+                } catch (IllegalArgumentException ex) {
+                    return "recurrencePattern: " + ex.getMessage();
+                }
+                event.setIsRecurring(true);
+                event.setRecurrencePattern(request.getRecurrencePattern());
+            }
+            storageService.retain(request.getImageUrl());
+            entityManager.persist(event);
+            eventPublisher.publishEvent(EventChangedEvent.created(event));
+            return null;
+        };
+    }
+
+    private RowWriter taskWriter(User importer) {
+        // Per job: each target event is checked once, however many rows point at it.
+        Map<Long, String> eventAccess = new HashMap<>();
+        Map<Long, Boolean> knownUsers = new HashMap<>();
+        return raw -> {
+            CreateTaskRequest request = (CreateTaskRequest) raw;
+            String denied = eventAccess.computeIfAbsent(request.getEventId(), eventId -> checkEventAccess(eventId, importer));
+            if (!denied.isEmpty()) {
+                return denied;
+            }
+            Long assigneeId = request.getAssignedToUserId();
+            if (assigneeId != null && !knownUsers.computeIfAbsent(assigneeId, userRepository::existsById)) {
+                return "Unknown assignee " + assigneeId;
+            }
+            Task task = new Task();
+            task.setName(request.getName());
+            task.setDescription(request.getDescription());
+            task.setStatus(request.getStatus());
+            task.setPriority(request.getPriority());
+            task.setDeadline(request.getDeadline());
+            task.setEstimatedHours(request.getEstimatedHours());
+            task.setEvent(entityManager.getReference(Event.class, request.getEventId()));
+            task.setCreatedBy(entityManager.getReference(User.class, importer.getId()));
+            if (assigneeId != null) {
+                task.setAssignedTo(entityManager.getReference(User.class, assigneeId));
+            }
+            entityManager.persist(task);
+            notificationService.taskAssigned(task, importer.getUsername());
+            eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangedEvent.Type.CREATED, task));
+            return null;
+        };
+    }
+
+    // The same rules as TaskService.createTask; an empty string means allowed.
+    private String checkEventAccess(Long eventId, User importer) {
+        Event event = eventRepository.findById(eventId).orElse(null);
+        if (event == null) {
+            return "Event " + eventId + " not found";
+        }
+        if (event.isExpired()) {
+            return "Event " + eventId + " has already finished";
+        }
+        if (!eventRepository.isUserMember(eventId, importer.getUsername())) {
+            return "Not a member of event " + eventId;
+        }
+        return "";
+    }
+
+    private static final class ChunkState {
+        private final Long jobId;
+        private final List<PendingRow> pending = new ArrayList<>();
+        private final List<ImportError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        private ChunkState(Long jobId) {
+            this.jobId = jobId;
+        }
+
+        private void reject(long line, String message) {
+            errors.add(new ImportError(jobId, line, message));
+        }
+    }
+}
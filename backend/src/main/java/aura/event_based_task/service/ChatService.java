@@ -1,5 +1,6 @@
 package aura.event_based_task.service;
 
+import aura.event_based_task.metrics.HotPathMetrics;
 import aura.event_based_task.model.ChatMessage;
 import aura.event_based_task.model.Event;
 import aura.event_based_task.model.User;
@@ -17,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class ChatService {
@@ -25,6 +27,9 @@ public class ChatService {
 
     @Autowired private ChatMessageRepository chatMessageRepository;
     @Autowired private EventService eventService;
+    @Autowired private HotPathMetrics metrics;
+    @Autowired private NotificationService notificationService;
+    @Autowired private ArchiveService archiveService;
 
 
     @PreAuthorize("hasPermission(#eventId, 'Event', 'MEMBER')")
@@ -32,6 +37,10 @@ public class ChatService {
     // This resolves the race condition by ensuring the event exists at the exact moment the message is saved.
     @Transactional
     public ChatMessage saveMessage(ChatMessageDto chatMessageDto, Long eventId, User sender) {
+        return metrics.record(HotPathMetrics.CHAT_SAVE, () -> persistMessage(chatMessageDto, eventId, sender));
+    }
+
+    private ChatMessage persistMessage(ChatMessageDto chatMessageDto, Long eventId, User sender) {
         // This check now happens inside the protected transaction
         Event event = eventService.getEventById(eventId);
 
@@ -45,6 +54,7 @@ public class ChatService {
         event.getChatMessages().add(chatMessage);
 
         ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
+        notificationService.chatMessage(savedMessage);
         logger.info("Chat message saved: eventId={}, user={}", eventId, sender.getUsername());
         return savedMessage;
     }
@@ -53,6 +63,12 @@ public class ChatService {
     @Transactional(readOnly = true) // Mark as read-only for performance
     public List<ChatMessageDto> getMessagesForEvent(Long eventId) {
         List<ChatMessage> messages = chatMessageRepository.findByEventIdOrderByTimestampAsc(eventId);
+        if (messages.isEmpty()) {
+            Optional<List<ChatMessageDto>> archived = archiveService.findMessages(eventId);
+            if (archived.isPresent()) {
+                return archived.get();
+            }
+        }
         logger.debug("Retrieved {} messages for event {}", messages.size(), eventId);
         return messages.stream()
                 .map(msg -> new ChatMessageDto(msg.getSender().getUsername(), msg.getContent()))
@@ -0,0 +1,134 @@
+package aura.event_based_task.service;
+
+import aura.event_based_task.dto.DashboardView;
+import aura.event_based_task.dto.TaskStatusCount;
+import aura.event_based_task.dto.TaskSummary;
+import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.recurrence.CalendarEntry;
+import aura.event_based_task.recurrence.RecurrenceRule;
+import aura.event_based_task.repository.EventRepository;
+import aura.event_based_task.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Builds the home page in one request. Four independent queries, each keyed by the user
+ * rather than looping over their events: the events they belong to, task counts by event and
+ * status, open tasks assigned to them, and open deadlines coming up in their events. They run
+ * in parallel on virtual threads, each in its own read-only transaction (so on the replica when
+ * there is one), and the results are stitched together in memory.
+ *
+ * <p>Each query holds a pooled connection, so at most {@code app.dashboard.max-concurrent-queries}
+ * run at once across all requests; the rest wait on a virtual thread, which costs nothing.
+ */
+@Service
+public class DashboardService {
+
+    private final EventRepository eventRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore queryPermits;
+
+    @Value("${app.dashboard.assigned-limit:50}")
+    private int assignedLimit;
+
+    @Value("${app.dashboard.upcoming-days:7}")
+    private int upcomingDays;
+
+    @Value("${app.dashboard.upcoming-limit:50}")
+    private int upcomingLimit;
+
+    public DashboardService(EventRepository eventRepository,
+                            TaskRepository taskRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${app.dashboard.max-concurrent-queries:6}") int maxConcurrentQueries) {
+        this.eventRepository = eventRepository;
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.queryPermits = new Semaphore(maxConcurrentQueries, true);
+    }
+
+    public DashboardView getDashboard(String username) {
+        LocalDateTime now = LocalDateTime.now();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<List<CalendarEntry>> events = executor.submit(() ->
+                    query(() -> eventRepository.findMemberEntries(username)));
+            Future<List<TaskStatusCount>> counts = executor.submit(() ->
+                    query(() -> taskRepository.countByStatusForMember(username)));
+            Future<List<TaskSummary>> assigned = executor.submit(() ->
+                    query(() -> taskRepository.findOpenAssignedTo(username, PageRequest.of(0, assignedLimit))));
+            Future<List<TaskSummary>> upcoming = executor.submit(() ->
+                    query(() -> taskRepository.findOpenDeadlinesForMember(username, now, now.plusDays(upcomingDays),
+                            PageRequest.of(0, upcomingLimit))));
+            return assemble(join(events), join(counts), join(assigned), join(upcoming));
+        }
+    }
+
+    private <T> T query(Supplier<T> query) throws InterruptedException {
+        queryPermits.acquire();
+        try {
+            return readOnlyTransaction.execute(status -> query.get());
+        } finally {
+            queryPermits.release();
+        }
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Dashboard request interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Dashboard query failed", ex.getCause());
+        }
+    }
+
+    private static DashboardView assemble(List<CalendarEntry> events, List<TaskStatusCount> counts,
+                                          List<TaskSummary> assigned, List<TaskSummary> upcoming) {
+        Map<Long, Map<ETaskStatus, Long>> countsByEvent = new HashMap<>();
+        Map<ETaskStatus, Long> totals = zeroCounts();
+        for (TaskStatusCount count : counts) {
+            countsByEvent.computeIfAbsent(count.eventId(), id -> zeroCounts()).put(count.status(), count.count());
+            totals.merge(count.status(), count.count(), Long::sum);
+        }
+        LocalDate today = LocalDate.now();
+        List<DashboardView.EventCard> cards = new ArrayList<>(events.size());
+        for (CalendarEntry entry : events) {
+            boolean recurring = entry.recurrencePattern() != null;
+            RecurrenceRule rule = recurring ? RecurrenceRule.tryParse(entry.recurrencePattern(), entry.date()).orElse(null) : null;
+            LocalDate nextDate = rule != null ? rule.firstOnOrAfter(today).orElse(null) : entry.date();
+            cards.add(new DashboardView.EventCard(entry.id(), entry.name(), entry.date(), nextDate, entry.location(),
+                    entry.category(), recurring, countsByEvent.getOrDefault(entry.id(), zeroCounts())));
+        }
+        return new DashboardView(cards, totals, assigned, upcoming);
+    }
+
+    private static Map<ETaskStatus, Long> zeroCounts() {
+        Map<ETaskStatus, Long> counts = new EnumMap<>(ETaskStatus.class);
+        for (ETaskStatus status : ETaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+}
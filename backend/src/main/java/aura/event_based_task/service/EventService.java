@@ -1,25 +1,44 @@
 package aura.event_based_task.service;
 
+import aura.event_based_task.broadcast.BroadcastEvent;
+import aura.event_based_task.domain.EventChangedEvent;
+import aura.event_based_task.domain.EventDeletedEvent;
 import aura.event_based_task.dto.CreateEventRequest;
+import aura.event_based_task.dto.FacetCounts;
 import aura.event_based_task.dto.PaginatedResponse;
 import aura.event_based_task.exception.ResourceNotFoundException;
+import aura.event_based_task.facet.EventTags;
+import aura.event_based_task.facet.FacetIndex;
+import aura.event_based_task.facet.TagMatch;
+import aura.event_based_task.fields.FieldSetWriter;
+import aura.event_based_task.fields.SparseQueries;
+import aura.event_based_task.fields.SparseRow;
+import aura.event_based_task.metrics.HotPathMetrics;
 import aura.event_based_task.model.Event;
+import aura.event_based_task.model.EventPurge;
 import aura.event_based_task.model.User;
+import aura.event_based_task.recurrence.RecurrenceRule;
+import aura.event_based_task.repository.EventArchiveRepository;
+import aura.event_based_task.repository.EventPurgeRepository;
 import aura.event_based_task.repository.EventRepository;
+import aura.event_based_task.repository.EventSpecifications;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 @Service
@@ -30,31 +49,64 @@ public class EventService {
 
     private final EventRepository eventRepository;
     private final AuthService authService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HotPathMetrics metrics;
+    private final NotificationService notificationService;
+    private final StorageService storageService;
+    private final EventPurgeRepository eventPurgeRepository;
+    private final EventArchiveRepository eventArchiveRepository;
+    private final ArchiveService archiveService;
+    private final FacetIndex facetIndex;
+    private final SparseQueries sparseQueries;
 
     public EventService(EventRepository eventRepository, 
                        AuthService authService,
-                       SimpMessagingTemplate messagingTemplate) {
+                       ApplicationEventPublisher eventPublisher,
+                       HotPathMetrics metrics,
+                       NotificationService notificationService,
+                       StorageService storageService,
+                       EventPurgeRepository eventPurgeRepository,
+                       EventArchiveRepository eventArchiveRepository,
+                       ArchiveService archiveService,
+                       FacetIndex facetIndex,
+                       SparseQueries sparseQueries) {
         this.eventRepository = eventRepository;
         this.authService = authService;
-        this.messagingTemplate = messagingTemplate;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+        this.notificationService = notificationService;
+        this.storageService = storageService;
+        this.eventPurgeRepository = eventPurgeRepository;
+        this.eventArchiveRepository = eventArchiveRepository;
+        this.archiveService = archiveService;
+        this.facetIndex = facetIndex;
+        this.sparseQueries = sparseQueries;
     }
 
-    @Cacheable(value = "events", key = "#page + '_' + #size + '_' + (#category != null ? #category : 'all') + '_' + (#search != null ? #search : 'all')")
-    public PaginatedResponse<Event> getAllEvents(int page, int size, String category, String search) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Event> eventPage;
-        
-        if (category != null && search != null) {
-            eventPage = eventRepository.findByCategoryContainingIgnoreCaseAndNameContainingIgnoreCase(category, search, pageable);
-        } else if (category != null) {
-            eventPage = eventRepository.findByCategoryContainingIgnoreCase(category, pageable);
-        } else if (search != null) {
-            eventPage = eventRepository.findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(search, search, pageable);
-        } else {
-            eventPage = eventRepository.findAll(pageable);
+    @Cacheable(value = "events", key = "#page + '_' + #size + '_' + (#category != null ? #category : 'all') + '_' + (#search != null ? #search : 'all') + '_' + #tags + '_' + #tagMatch")
+    public PaginatedResponse<Event> getAllEvents(int page, int size, String category, String search,
+                                                 Set<String> tags, TagMatch tagMatch) {
+        // Only cache misses reach this point; hits are counted by the "events" cache metrics.
+        List<String> filters = new ArrayList<>();
+        if (category != null) {
+            filters.add("category");
+        }
+        if (search != null) {
+            filters.add("search");
         }
-        
+        if (!tags.isEmpty()) {
+            filters.add("tags");
+        }
+        String filter = filters.isEmpty() ? "none" : String.join("_", filters);
+        return metrics.record(HotPathMetrics.EVENTS_LIST, () -> loadEvents(page, size, category, search, tags, tagMatch),
+                "filter", filter);
+    }
+
+    private PaginatedResponse<Event> loadEvents(int page, int size, String category, String search,
+                                                Set<String> tags, TagMatch tagMatch) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Page<Event> eventPage = eventRepository.findAll(listFilter(category, search, tags, tagMatch), pageable);
+
         return PaginatedResponse.of(
             eventPage.getContent(),
             eventPage.getNumber(),
@@ -63,17 +115,57 @@ public class EventService {
         );
     }
 
+    /** The same list as {@link #getAllEvents}, selecting only the requested fields' columns. */
+    @Transactional(readOnly = true)
+    public PaginatedResponse<SparseRow> getAllEvents(int page, int size, String category, String search,
+                                                     Set<String> tags, TagMatch tagMatch, FieldSetWriter<Event> fields) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Page<SparseRow> rows = sparseQueries.findPage(fields, listFilter(category, search, tags, tagMatch), pageable);
+        return PaginatedResponse.of(rows.getContent(), rows.getNumber(), rows.getSize(), rows.getTotalElements());
+    }
+
+    private static Specification<Event> listFilter(String category, String search, Set<String> tags, TagMatch tagMatch) {
+        return Specification.where(EventSpecifications.categoryIs(EventTags.categoryKey(category)))
+                .and(EventSpecifications.hasTags(tags, tagMatch))
+                .and(EventSpecifications.nameOrDescriptionContains(search));
+    }
+
+    // Served from FacetIndex; no query runs per request.
+    public FacetCounts getFacets(String category, Set<String> tags, TagMatch tagMatch) {
+        return facetIndex.count(EventTags.categoryKey(category), tags, tagMatch);
+    }
+
     @Transactional(readOnly = true)
     public Set<Event> getMyEvents(String username) {
         User user = authService.findByUsername(username);
         return eventRepository.findByMembers_Id(user.getId());
     }
 
+    @Transactional(readOnly = true)
+    public List<SparseRow> getMyEvents(String username, FieldSetWriter<Event> fields) {
+        return sparseQueries.findAll(fields, EventSpecifications.hasMember(username), Sort.by("date", "id"));
+    }
+
     public Event getEventById(Long id) {
         return eventRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", id));
     }
 
+    // Read-only views may also show archived events; everything that changes an event uses getEventById.
+    @Transactional(readOnly = true)
+    public Event getEventDetails(Long id) {
+        return eventRepository.findById(id)
+                .or(() -> archiveService.findEvent(id))
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", id));
+    }
+
+    @Transactional(readOnly = true)
+    public SparseRow getEventDetails(Long id, FieldSetWriter<Event> fields) {
+        return sparseQueries.findAll(fields, EventSpecifications.idIs(id), Sort.unsorted()).stream().findFirst()
+                .or(() -> archiveService.findEvent(id).map(fields::row))
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", id));
+    }
+
     @Transactional
     public Event createEvent(CreateEventRequest request, User creator) {
         Event event = new Event(
@@ -83,20 +175,62 @@ public class EventService {
             request.getLocation(),
             creator
         );
+        event.setMaxParticipants(request.getMaxParticipants());
+        event.setCategory(request.getCategory());
+        event.setTags(request.getTags());
+        if (Boolean.TRUE.equals(request.getIsRecurring())) {
+            try {
+                RecurrenceRule.parse(request.getRecurrencePattern(), request.getDate());
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalStateException("Invalid recurrence pattern: " + ex.getMessage());
+            }
+            event.setIsRecurring(true);
+            event.setRecurrencePattern(request.getRecurrencePattern());
+        }
+        event.setImageUrl(request.getImageUrl());
+        storageService.retain(request.getImageUrl());
         Event savedEvent = eventRepository.save(event);
+        notificationService.eventCreated(savedEvent);
+        eventPublisher.publishEvent(EventChangedEvent.created(savedEvent));
         logger.info("Event created: id={}, creator={}", savedEvent.getId(), creator.getUsername());
         return savedEvent;
     }
 
+    /**
+     * Soft-deletes the event: it vanishes from every query when this commits, and the deleted
+     * broadcast goes out at the same moment. Tasks, chat history and memberships are removed
+     * afterwards by {@code EventPurger}, whose progress is kept in {@link EventPurge}.
+     */
     @Transactional
     @PreAuthorize("hasPermission(#eventId, 'Event', 'ADMIN')")
-    public void deleteEvent(Long eventId) {
-        if (eventRepository.existsById(eventId)) {
-            eventRepository.deleteById(eventId);
-            logger.info("Event deleted: id={}", eventId);
-            // *** FIX: Broadcast the ID of the deleted event to all clients. ***
-            messagingTemplate.convertAndSend("/topic/events/deleted", eventId);
+    public void deleteEvent(Long eventId, String requestedBy) {
+        Event event = eventRepository.findById(eventId).orElse(null);
+        if (event == null || eventRepository.softDelete(eventId, LocalDateTime.now()) == 0) {
+            return;
         }
+        storageService.release(event.getImageUrl());
+        eventPurgeRepository.save(new EventPurge(eventId, requestedBy, LocalDateTime.now()));
+        logger.info("Event deleted: id={}, purge scheduled", eventId);
+        eventPublisher.publishEvent(new EventDeletedEvent(eventId));
+        eventPublisher.publishEvent(EventChangedEvent.deleted(eventId));
+        // *** FIX: Broadcast the ID of the deleted event to all clients. ***
+        // Sent after commit by BroadcastDispatcher.
+        eventPublisher.publishEvent(new BroadcastEvent("/topic/events/deleted", eventId));
+    }
+
+    @Transactional(readOnly = true)
+    public EventPurge getPurge(Long eventId, String username) {
+        return eventPurgeRepository.findById(eventId)
+                .filter(purge -> username.equals(purge.getRequestedBy()))
+                .orElseThrow(() -> new ResourceNotFoundException("Event purge", "eventId", eventId));
+    }
+
+    // Permission is checked by the caller, before the upload is read.
+    @Transactional
+    public void updateImageUrl(Long eventId, String imageUrl) {
+        Event event = getEventById(eventId);
+        storageService.replace(event.getImageUrl(), imageUrl);
+        event.setImageUrl(imageUrl);
     }
 
     @Transactional
@@ -124,12 +258,13 @@ public class EventService {
     }
 
     public boolean isUserMemberOfEvent(Long eventId, String username) {
-        return eventRepository.isUserMember(eventId, username);
+        return eventRepository.isUserMember(eventId, username)
+                || eventArchiveRepository.isMemberByUsername(eventId, username);
     }
 
     @Transactional(readOnly = true)
     public Set<User> getEventMembers(Long eventId) {
-        Event event = getEventById(eventId);
+        Event event = getEventDetails(eventId);
         return event.getMembers();
     }
 }
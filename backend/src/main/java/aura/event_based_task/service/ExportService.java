@@ -0,0 +1,148 @@
+package aura.event_based_task.service;
+
+import aura.event_based_task.archive.ArchivedEvent;
+import aura.event_based_task.export.ExportDataset;
+import aura.event_based_task.export.ExportFormat;
+import aura.event_based_task.export.RowWriter;
+import aura.event_based_task.model.Event;
+import aura.event_based_task.model.Task;
+import aura.event_based_task.model.User;
+import aura.event_based_task.repository.EventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Streams an event's tasks, members or chat transcript to an output stream. Live events are
+ * read through a forward-only JDBC cursor ({@code app.export.fetch-size} rows per round trip;
+ * PostgreSQL only honours the fetch size inside a transaction, hence the read-only one, which
+ * also sends exports to the replica when there is one). Each row is written as soon as it is
+ * read, so heap use does not grow with the event. Archived events are exported from their
+ * snapshot.
+ *
+ * <p>An export holds a pooled connection for its whole duration, so at most
+ * {@code app.export.max-concurrent} run at once.
+ */
+@Service
+public class ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    private final JdbcTemplate cursorTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final EventRepository eventRepository;
+    private final ArchiveService archiveService;
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+
+    public ExportService(JdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate,
+                         EventRepository eventRepository,
+                         ArchiveService archiveService,
+                         ObjectMapper objectMapper,
+                         @Value("${app.export.fetch-size:500}") int fetchSize,
+                         @Value("${app.export.max-concurrent:4}") int maxConcurrent) {
+        this.cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.cursorTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.eventRepository = eventRepository;
+        this.archiveService = archiveService;
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /** Reserves an export slot; the caller must {@link #release()} it once the stream is written. */
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public void export(Long eventId, ExportDataset dataset, ExportFormat format, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        RowWriter writer = format.open(out, dataset.getColumns(), objectMapper);
+        long rows;
+        if (eventRepository.existsById(eventId)) {
+            rows = exportLive(eventId, dataset, writer);
+        } else {
+            rows = exportArchived(eventId, dataset, writer);
+        }
+        writer.finish();
+        logger.info("Exported {} {} rows of event {} as {} in {} ms", rows, dataset.key(), eventId, format,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private long exportLive(Long eventId, ExportDataset dataset, RowWriter writer) {
+        int columns = dataset.getColumns().size();
+        long[] rows = {0};
+        readOnlyTransaction.executeWithoutResult(status -> cursorTemplate.query(dataset.getSql(), resultSet -> {
+            Object[] values = new Object[columns];
+            for (int i = 0; i < columns; i++) {
+                values[i] = value(resultSet, i + 1);
+            }
+            try {
+                writer.write(values);
+            } catch (IOException ex) {
+                // The client went away; unwinding closes the cursor and ends the transaction.
+                throw new UncheckedIOException(ex);
+            }
+            rows[0]++;
+        }, eventId));
+        return rows[0];
+    }
+
+    // Archived snapshots are bounded by the archive batch that wrote them and already decoded in memory.
+    private long exportArchived(Long eventId, ExportDataset dataset, RowWriter writer) throws IOException {
+        long rows = 0;
+        switch (dataset) {
+            case TASKS -> {
+                for (Task task : archiveService.findTasks(eventId).orElse(List.of())) {
+                    writer.write(task.getId(), task.getName(), task.getDescription(), task.getStatus(),
+                            task.getPriority(), task.getDeadline(), task.getEstimatedHours(), task.getActualHours(),
+                            task.getAssignedTo() == null ? null : task.getAssignedTo().getUsername(),
+                            task.getCreatedBy() == null ? null : task.getCreatedBy().getUsername(),
+                            task.getCreatedAt(), task.getUpdatedAt());
+                    rows++;
+                }
+            }
+            case MEMBERS -> {
+                List<User> members = archiveService.findEvent(eventId).map(Event::getMembers).map(List::copyOf).orElse(List.of());
+                for (User member : members.stream().sorted(Comparator.comparing(User::getUsername)).toList()) {
+                    writer.write(member.getId(), member.getUsername(), member.getFullName());
+                    rows++;
+                }
+            }
+            case CHAT -> {
+                List<ArchivedEvent.Message> messages = archiveService.findSnapshot(eventId)
+                        .map(ArchivedEvent::messages).orElse(List.of());
+                for (ArchivedEvent.Message message : messages) {
+                    writer.write(message.id(), message.sender(), message.content(), message.timestamp());
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static Object value(ResultSet resultSet, int column) throws SQLException {
+        Object value = resultSet.getObject(column);
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value;
+    }
+}
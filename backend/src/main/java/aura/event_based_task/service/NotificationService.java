@@ -0,0 +1,121 @@
+package aura.event_based_task.service;
+
+import aura.event_based_task.config.NotificationConfig;
+import aura.event_based_task.model.ChatMessage;
+import aura.event_based_task.model.ENotificationType;
+import aura.event_based_task.model.Event;
+import aura.event_based_task.model.Notification;
+import aura.event_based_task.model.Task;
+import aura.event_based_task.model.User;
+import aura.event_based_task.repository.EventRepository;
+import aura.event_based_task.repository.NotificationRepository;
+import aura.event_based_task.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Writes notifications to the persistent queue as part of the caller's transaction, so a
+ * notification exists exactly when the change it describes was committed. Delivery happens
+ * later, batched per recipient, in {@code NotificationDigestSender}.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class NotificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+
+    // "@alice" but not "bob@alice.com"; usernames are 3-20 characters.
+    private static final Pattern MENTION = Pattern.compile("(?<![\\w@.])@([A-Za-z0-9_.-]{3,20})");
+    private static final int MAX_MENTIONS = 20;
+
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private NotificationConfig config;
+
+    public void taskAssigned(Task task, String assignedBy) {
+        if (!config.isEnabled() || task.getAssignedTo() == null || task.getAssignedTo().getId() == null) {
+            return;
+        }
+        // The assignee may arrive from the request body as an id-only reference; users are second-level cached.
+        User assignee = userRepository.findById(task.getAssignedTo().getId()).orElse(null);
+        if (assignee == null || assignee.getUsername().equals(assignedBy)) {
+            return;
+        }
+        Event event = task.getEvent();
+        enqueue(assignee, ENotificationType.TASK_ASSIGNED,
+                assignedBy + " assigned you \"" + task.getName() + "\" in " + event.getName(), event.getId());
+    }
+
+    public void taskDeadline(Task task, ENotificationType reminderType) {
+        if (!config.isEnabled() || task.getAssignedTo() == null) {
+            return;
+        }
+        String when = reminderType == ENotificationType.TASK_OVERDUE ? "is overdue" : "is due " + task.getDeadline();
+        enqueue(task.getAssignedTo(), reminderType,
+                "\"" + task.getName() + "\" in " + task.getEvent().getName() + " " + when, task.getEvent().getId());
+    }
+
+    public void eventCreated(Event event) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int queued = notificationRepository.enqueueForCoMembers(event.getCreatedBy().getId(), event.getId(),
+                truncate(event.getCreatedBy().getUsername() + " created a new event: " + event.getName()),
+                now, now.plus(config.getDigestWindow()));
+        logger.debug("Queued {} new-event notifications for event {}", queued, event.getId());
+    }
+
+    public void chatMessage(ChatMessage message) {
+        if (!config.isEnabled() || message.getContent() == null) {
+            return;
+        }
+        Set<String> mentioned = new LinkedHashSet<>();
+        Matcher matcher = MENTION.matcher(message.getContent());
+        while (matcher.find() && mentioned.size() < MAX_MENTIONS) {
+            mentioned.add(matcher.group(1));
+        }
+        User sender = message.getSender();
+        mentioned.remove(sender.getUsername());
+        if (mentioned.isEmpty()) {
+            return;
+        }
+        Event event = message.getEvent();
+        // Only members of the event can be mentioned; anything else is just text.
+        List<User> recipients = eventRepository.findMembersByUsernames(event.getId(), mentioned);
+        for (User recipient : recipients) {
+            enqueue(recipient, ENotificationType.CHAT_MENTION,
+                    sender.getUsername() + " mentioned you in " + event.getName() + ": " + message.getContent(),
+                    event.getId());
+        }
+    }
+
+    static boolean assigneeChanged(User before, User after) {
+        Long beforeId = before != null ? before.getId() : null;
+        Long afterId = after != null ? after.getId() : null;
+        return afterId != null && !Objects.equals(beforeId, afterId);
+    }
+
+    private void enqueue(User recipient, ENotificationType type, String message, Long eventId) {
+        LocalDateTime now = LocalDateTime.now();
+        notificationRepository.save(new Notification(recipient, type, truncate(message), eventId,
+                now, now.plus(config.getDigestWindow())));
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 500 ? message : message.substring(0, 497) + "...";
+    }
+}
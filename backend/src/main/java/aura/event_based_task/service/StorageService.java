@@ -0,0 +1,214 @@
+package aura.event_based_task.service;
+
+import aura.event_based_task.config.StorageConfig;
+import aura.event_based_task.exception.ResourceNotFoundException;
+import aura.event_based_task.exception.StorageException;
+import aura.event_based_task.repository.BlobRepository;
+import aura.event_based_task.storage.BlobStore;
+import aura.event_based_task.storage.ImageVariant;
+import aura.event_based_task.storage.ThumbnailWorker;
+import aura.event_based_task.storage.VariantCache;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.Part;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+
+/**
+ * Uploads and serves images (event images, avatars) from the content-addressed {@link BlobStore}.
+ *
+ * <p>Multipart parsing is lazy ({@code spring.servlet.multipart.resolve-lazily}), so nothing is
+ * read from the socket until {@link #storeUpload} holds an upload permit. The container spools
+ * the part to a temp file (threshold 0) and it is hashed while being streamed into the store,
+ * so file contents never sit in heap.
+ *
+ * <p>References from {@code Event.imageUrl} and {@code User.avatarUrl} are counted through
+ * {@link #retain} and {@link #release}, inside the transaction that changes the URL.
+ */
+@Service
+public class StorageService {
+
+    public static final String PUBLIC_PREFIX = "/api/v1/files/";
+
+    public record StoredFile(String name, long size) {
+        public String url() {
+            return PUBLIC_PREFIX + name;
+        }
+    }
+
+    /** A file to serve. {@code immutable} is false when the original stands in for a variant still being generated. */
+    public record ServedFile(Path path, String etag, boolean immutable) {
+    }
+
+    private final StorageConfig config;
+    private final BlobStore blobStore;
+    private final BlobRepository blobRepository;
+    private final VariantCache variantCache;
+    private final ThumbnailWorker thumbnailWorker;
+    private final Semaphore uploadPermits;
+    private final long maxRequestSize;
+
+    public StorageService(StorageConfig config,
+                          BlobStore blobStore,
+                          BlobRepository blobRepository,
+                          VariantCache variantCache,
+                          ThumbnailWorker thumbnailWorker,
+                          @Value("${spring.servlet.multipart.max-request-size:10MB}") DataSize maxRequestSize) {
+        this.config = config;
+        this.blobStore = blobStore;
+        this.blobRepository = blobRepository;
+        this.variantCache = variantCache;
+        this.thumbnailWorker = thumbnailWorker;
+        this.uploadPermits = new Semaphore(config.getMaxConcurrentUploads(), true);
+        this.maxRequestSize = maxRequestSize.toBytes();
+    }
+
+    public StoredFile storeUpload(HttpServletRequest request, String partName) {
+        // Reject oversized bodies from the header alone, before taking a permit or reading anything.
+        long declaredLength = request.getContentLengthLong();
+        if (declaredLength > maxRequestSize) {
+            throw new StorageException(HttpStatus.PAYLOAD_TOO_LARGE, "Upload exceeds " + maxRequestSize + " bytes");
+        }
+        boolean acquired;
+        try {
+            acquired = uploadPermits.tryAcquire(config.getUploadWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new StorageException(HttpStatus.SERVICE_UNAVAILABLE, "Upload interrupted");
+        }
+        if (!acquired) {
+            throw new StorageException(HttpStatus.SERVICE_UNAVAILABLE, "Too many uploads in progress, try again shortly");
+        }
+        try {
+            return store(readPart(request, partName));
+        } finally {
+            uploadPermits.release();
+        }
+    }
+
+    /**
+     * Resolves a public file name, preferring the requested variant. Missing variants are
+     * queued for generation and the original is served meanwhile.
+     */
+    public ServedFile resolve(String name, ImageVariant variant) {
+        Matcher parsed = BlobStore.parseName(name);
+        if (parsed == null) {
+            throw new ResourceNotFoundException("File", "name", name);
+        }
+        String hash = parsed.group(1);
+        String extension = parsed.group(2);
+        Path original = blobStore.originalPath(hash, extension);
+        if (!Files.isRegularFile(original)) {
+            throw new ResourceNotFoundException("File", "name", name);
+        }
+        if (variant == null || !ThumbnailWorker.supports(extension)) {
+            return new ServedFile(original, "\"" + hash + "\"", true);
+        }
+        Path cached = variantCache.lookup(variantCache.path(hash, variant, ThumbnailWorker.variantExtension(extension)));
+        if (cached != null && Files.isRegularFile(cached)) {
+            return new ServedFile(cached, "\"" + hash + "-" + variant.key() + "\"", true);
+        }
+        thumbnailWorker.submit(hash, extension);
+        return new ServedFile(original, "\"" + hash + "\"", false);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void retain(String url) {
+        adjust(url, 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(String url) {
+        adjust(url, -1);
+    }
+
+    /** Moves a reference from one URL to another; a no-op when they are the same file. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void replace(String previousUrl, String newUrl) {
+        if (Objects.equals(previousUrl, newUrl)) {
+            return;
+        }
+        retain(newUrl);
+        release(previousUrl);
+    }
+
+    private void adjust(String url, int delta) {
+        if (url == null || !url.startsWith(PUBLIC_PREFIX)) {
+            return;
+        }
+        Matcher parsed = BlobStore.parseName(url.substring(PUBLIC_PREFIX.length()));
+        if (parsed != null) {
+            blobRepository.adjustRefCount(parsed.group(1), delta, LocalDateTime.now());
+        }
+    }
+
+    private Part readPart(HttpServletRequest request, String partName) {
+        try {
+            Part part = request.getPart(partName);
+            if (part == null || part.getSize() == 0) {
+                throw new StorageException(HttpStatus.BAD_REQUEST, "Missing file part '" + partName + "'");
+            }
+            return part;
+        } catch (IllegalStateException ex) {
+            // The container enforces max-file-size / max-request-size while parsing.
+            throw new StorageException(HttpStatus.PAYLOAD_TOO_LARGE, "Upload exceeds the size limit", ex);
+        } catch (IOException | ServletException ex) {
+            throw new StorageException(HttpStatus.BAD_REQUEST, "Could not read upload", ex);
+        }
+    }
+
+    private StoredFile store(Part part) {
+        try {
+            String extension = detectImageExtension(part);
+            BlobStore.StoredBlob blob;
+            try (InputStream in = part.getInputStream()) {
+                blob = blobStore.store(in, extension);
+            } finally {
+                part.delete();
+            }
+            thumbnailWorker.submit(blob.hash(), extension);
+            return new StoredFile(blob.fileName(), blob.size());
+        } catch (IOException ex) {
+            throw new StorageException(HttpStatus.INTERNAL_SERVER_ERROR, "Could not store upload", ex);
+        }
+    }
+
+    // Trusts the file's magic bytes, never the client's content type or file name.
+    private static String detectImageExtension(Part part) throws IOException {
+        byte[] header = new byte[12];
+        int read;
+        try (InputStream in = part.getInputStream()) {
+            read = in.readNBytes(header, 0, header.length);
+        }
+        if (read >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+            return "jpg";
+        }
+        if (read >= 8 && Arrays.equals(Arrays.copyOf(header, 8),
+                new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})) {
+            return "png";
+        }
+        if (read >= 6 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8') {
+            return "gif";
+        }
+        if (read >= 12 && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return "webp";
+        }
+        throw new StorageException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Only JPEG, PNG, GIF and WebP images are accepted");
+    }
+}
@@ -0,0 +1,242 @@
+package aura.event_based_task.service;
+
+import aura.event_based_task.broadcast.BroadcastEvent;
+import aura.event_based_task.domain.TaskChangedEvent;
+import aura.event_based_task.dto.TaskBatchRequest;
+import aura.event_based_task.dto.TaskBatchResult;
+import aura.event_based_task.dto.TaskDto;
+import aura.event_based_task.exception.ResourceNotFoundException;
+import aura.event_based_task.exception.VersionConflictException;
+import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.model.Event;
+import aura.event_based_task.model.Task;
+import aura.event_based_task.model.User;
+import aura.event_based_task.repository.TaskRepository;
+import aura.event_based_task.repository.UserRepository;
+import aura.event_based_task.security.UserDetailsImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies many task mutations for one event in a single transaction. Permission is checked
+ * once for the event rather than per task. The tasks and assignees the batch refers to are
+ * loaded with one query each, and the writes go out as JDBC batches at flush. Clients get one
+ * broadcast frame on {@code /topic/tasks/{eventId}}, the topic the event page already
+ * refreshes its task list from, with everything that changed.
+ */
+@Service
+public class TaskBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskBatchService.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final EventService eventService;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.tasks.batch.max-operations:500}")
+    private int maxOperations;
+
+    // Larger than the global hibernate.jdbc.batch_size; a batch is one big flush.
+    @Value("${app.tasks.batch.jdbc-batch-size:100}")
+    private int jdbcBatchSize;
+
+    public TaskBatchService(TaskRepository taskRepository,
+                            UserRepository userRepository,
+                            EventService eventService,
+                            NotificationService notificationService,
+                            ApplicationEventPublisher eventPublisher) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.eventService = eventService;
+        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    @PreAuthorize("hasPermission(#request.eventId, 'Event', 'MEMBER')")
+    public TaskBatchResult apply(TaskBatchRequest request) {
+        List<TaskBatchRequest.Operation> operations = request.getOperations();
+        if (operations.size() > maxOperations) {
+            throw new IllegalStateException("A batch can hold at most " + maxOperations + " operations.");
+        }
+        UserDetailsImpl principal = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Long eventId = request.getEventId();
+        Event event = eventService.getEventById(eventId);
+        checkAccess(event, operations, principal.getId());
+
+        Map<Long, Task> tasks = loadTasks(eventId, operations);
+        Map<Long, User> assignees = loadAssignees(operations);
+        User creator = entityManager.getReference(User.class, principal.getId());
+        entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+
+        List<Task> created = new ArrayList<>();
+        List<Task> updated = new ArrayList<>();
+        List<Task> deleted = new ArrayList<>();
+        for (TaskBatchRequest.Operation operation : operations) {
+            switch (operation.getOp()) {
+                case CREATE -> created.add(create(operation, event, creator, assignees, principal.getUsername()));
+                case UPDATE -> updated.add(update(tasks.get(operation.getTaskId()), operation, assignees, principal.getUsername()));
+                case DELETE -> deleted.add(tasks.get(operation.getTaskId()));
+            }
+        }
+        if (!deleted.isEmpty()) {
+            removeAll(deleted);
+        }
+        // Writes the batch so the result carries the versions and updatedAt the rows now have.
+        entityManager.flush();
+
+        TaskBatchResult result = new TaskBatchResult(eventId,
+                created.stream().map(TaskDto::from).toList(),
+                updated.stream().map(TaskDto::from).toList(),
+                deleted.stream().map(Task::getId).toList());
+        eventPublisher.publishEvent(new BroadcastEvent("/topic/tasks/" + eventId, result));
+        logger.info("Task batch applied: eventId={}, created={}, updated={}, deleted={}, user={}",
+                eventId, created.size(), updated.size(), deleted.size(), principal.getUsername());
+        return result;
+    }
+
+    // The same rules as the single-task endpoints, decided once for the whole batch.
+    private static void checkAccess(Event event, List<TaskBatchRequest.Operation> operations, Long userId) {
+        boolean creates = operations.stream().anyMatch(op -> op.getOp() == TaskBatchRequest.Op.CREATE);
+        boolean deletes = operations.stream().anyMatch(op -> op.getOp() == TaskBatchRequest.Op.DELETE);
+        if (creates && event.isExpired()) {
+            throw new AccessDeniedException("Cannot create tasks for an event that has already finished.");
+        }
+        if (deletes && !event.getCreatedBy().getId().equals(userId)) {
+            throw new AccessDeniedException("Only the event creator can delete tasks.");
+        }
+    }
+
+    private Map<Long, Task> loadTasks(Long eventId, List<TaskBatchRequest.Operation> operations) {
+        Set<Long> ids = new HashSet<>();
+        for (TaskBatchRequest.Operation operation : operations) {
+            if (operation.getOp() == TaskBatchRequest.Op.CREATE) {
+                continue;
+            }
+            if (operation.getTaskId() == null) {
+                throw new IllegalStateException(operation.getOp() + " operations need a taskId.");
+            }
+            if (!ids.add(operation.getTaskId())) {
+                throw new IllegalStateException("Task " + operation.getTaskId() + " appears more than once in the batch.");
+            }
+        }
+        Map<Long, Task> tasks = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        for (Long id : ids) {
+            Task task = tasks.get(id);
+            // Tasks of other events are reported as missing rather than revealed.
+            if (task == null || !eventId.equals(task.getEvent().getId())) {
+                throw new ResourceNotFoundException("Task", "id", id);
+            }
+        }
+        return tasks;
+    }
+
+    private Map<Long, User> loadAssignees(List<TaskBatchRequest.Operation> operations) {
+        Set<Long> ids = operations.stream()
+                .map(TaskBatchRequest.Operation::getAssignedToUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, User> users = userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        for (Long id : ids) {
+            if (!users.containsKey(id)) {
+                throw new IllegalStateException("Unknown assignee " + id);
+            }
+        }
+        return users;
+    }
+
+    private Task create(TaskBatchRequest.Operation operation, Event event, User creator,
+                        Map<Long, User> assignees, String username) {
+        if (operation.getName() == null) {
+            throw new IllegalStateException("CREATE operations need a name.");
+        }
+        Task task = new Task();
+        task.setName(operation.getName());
+        task.setDescription(operation.getDescription());
+        task.setStatus(operation.getStatus() != null ? operation.getStatus() : ETaskStatus.TO_DO);
+        task.setPriority(operation.getPriority() != null ? operation.getPriority() : 3);
+        task.setDeadline(operation.getDeadline());
+        task.setEstimatedHours(operation.getEstimatedHours());
+        task.setEvent(event);
+        task.setCreatedBy(creator);
+        task.setAssignedTo(assignees.get(operation.getAssignedToUserId()));
+        entityManager.persist(task);
+        notificationService.taskAssigned(task, username);
+        publishChange(TaskChangedEvent.Type.CREATED, task);
+        return task;
+    }
+
+    private Task update(Task task, TaskBatchRequest.Operation operation, Map<Long, User> assignees, String username) {
+        if (operation.getVersion() != null && !operation.getVersion().equals(task.getVersion())) {
+            throw new VersionConflictException("Task", task.getId(), operation.getVersion(), task.getVersion());
+        }
+        if (operation.getName() != null) {
+            task.setName(operation.getName());
+        }
+        if (operation.getDescription() != null) {
+            task.setDescription(operation.getDescription());
+        }
+        if (operation.getStatus() != null) {
+            task.setStatus(operation.getStatus());
+        }
+        if (operation.getPriority() != null) {
+            task.setPriority(operation.getPriority());
+        }
+        if (operation.getDeadline() != null) {
+            task.setDeadline(operation.getDeadline());
+        }
+        if (operation.getEstimatedHours() != null) {
+            task.setEstimatedHours(operation.getEstimatedHours());
+        }
+        User assignee = assignees.get(operation.getAssignedToUserId());
+        boolean reassigned = NotificationService.assigneeChanged(task.getAssignedTo(), assignee);
+        if (reassigned) {
+            task.setAssignedTo(assignee);
+            notificationService.taskAssigned(task, username);
+        }
+        publishChange(TaskChangedEvent.Type.UPDATED, task);
+        return task;
+    }
+
+    private void removeAll(List<Task> tasks) {
+        List<Long> ids = tasks.stream().map(Task::getId).toList();
+        // Other tasks' dependencies on these; Hibernate only clears the owning side.
+        entityManager.createNativeQuery("DELETE FROM task_dependencies WHERE dependency_id IN (:ids)")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        for (Task task : tasks) {
+            entityManager.remove(task);
+            publishChange(TaskChangedEvent.Type.DELETED, task);
+        }
+    }
+
+    private void publishChange(TaskChangedEvent.Type type, Task task) {
+        eventPublisher.publishEvent(TaskChangedEvent.of(type, task));
+    }
+}
@@ -0,0 +1,243 @@
+package aura.event_based_task.service;
+
+import aura.event_based_task.dto.KeysetPage;
+import aura.event_based_task.dto.TaskDto;
+import aura.event_based_task.dto.UserDto;
+import aura.event_based_task.exception.ResourceNotFoundException;
+import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.model.User;
+import aura.event_based_task.repository.UserRepository;
+import aura.event_based_task.taskquery.TaskCursor;
+import aura.event_based_task.taskquery.TaskFilter;
+import aura.event_based_task.taskquery.TaskSort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Filtered, sorted task listing for one event with keyset pagination. Rows are selected as
+ * scalar columns straight into {@link TaskDto}, so no entities, assignee proxies or dependency
+ * sets are loaded.
+ *
+ * <p>Ordering follows PostgreSQL's native null placement (NULLS LAST ascending, NULLS FIRST
+ * descending) so the (event_id, key, id) indexes serve both directions without a sort step.
+ */
+@Service
+public class TaskQueryService {
+
+    private static final String SELECT = "SELECT t.id, t.name, t.description, t.status, t.priority, t.deadline, "
+            + "t.createdAt, t.updatedAt, a.id, a.username, e.id, e.name, t.version "
+            + "FROM Task t JOIN t.event e LEFT JOIN t.assignedTo a WHERE t.event.id = :eventId";
+
+    private static final int MAX_TEXT_LENGTH = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final UserRepository userRepository;
+    private final int defaultSize;
+    private final int maxSize;
+
+    public TaskQueryService(UserRepository userRepository,
+                            @Value("${app.tasks.query.default-size:50}") int defaultSize,
+                            @Value("${app.tasks.query.max-size:200}") int maxSize) {
+        this.userRepository = userRepository;
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasPermission(#eventId, 'Event', 'MEMBER')")
+    public KeysetPage<TaskDto> search(Long eventId, TaskFilter filter, TaskSort sort, Boolean descending,
+                                      String cursor, Integer size) {
+        boolean desc = descending != null ? descending : sort.descendingByDefault();
+        int limit = size == null ? defaultSize : Math.max(1, Math.min(size, maxSize));
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor, sort, desc);
+
+        StringBuilder jpql = new StringBuilder(SELECT);
+        Map<String, Object> params = new HashMap<>();
+        params.put("eventId", eventId);
+        appendFilter(jpql, params, filter);
+        if (after != null) {
+            appendKeyset(jpql, params, sort, desc, after);
+        }
+        String field = "t." + sort.attribute();
+        String direction = desc ? " DESC" : " ASC";
+        jpql.append(" ORDER BY ").append(field).append(direction)
+                .append(sort.nullable() ? (desc ? " NULLS FIRST" : " NULLS LAST") : "")
+                .append(", t.id").append(direction);
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        params.forEach(query::setParameter);
+        // One extra row tells whether another page follows without a count query.
+        List<Object[]> rows = query.setMaxResults(limit + 1).getResultList();
+
+        boolean hasNext = rows.size() > limit;
+        List<TaskDto> content = new ArrayList<>(Math.min(rows.size(), limit));
+        for (Object[] row : rows.subList(0, Math.min(rows.size(), limit))) {
+            content.add(toDto(row));
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            TaskDto last = content.get(content.size() - 1);
+            nextCursor = new TaskCursor(sort, desc, last.getId(), sortValue(sort, last)).encode();
+        }
+        return new KeysetPage<>(content, content.size(), nextCursor, hasNext);
+    }
+
+    /**
+     * Builds a filter from request parameters. {@code status} and {@code priority} are comma
+     * lists; {@code assignee} is a user id, {@code me} or {@code none}.
+     */
+    public TaskFilter filter(String status, String priority, String assignee,
+                             LocalDateTime deadlineFrom, LocalDateTime deadlineTo, String text) {
+        Set<ETaskStatus> statuses = EnumSet.noneOf(ETaskStatus.class);
+        for (String value : split(status)) {
+            try {
+                statuses.add(ETaskStatus.valueOf(value.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalStateException("Unknown task status '" + value + "'");
+            }
+        }
+        Set<Integer> priorities = new TreeSet<>();
+        for (String value : split(priority)) {
+            try {
+                int parsed = Integer.parseInt(value);
+                if (parsed < 1 || parsed > 5) {
+                    throw new NumberFormatException();
+                }
+                priorities.add(parsed);
+            } catch (NumberFormatException ex) {
+                throw new IllegalStateException("Priority must be between 1 and 5; got '" + value + "'");
+            }
+        }
+        Long assigneeId = null;
+        boolean unassigned = false;
+        if (assignee != null && !assignee.isBlank()) {
+            String value = assignee.trim();
+            if (value.equalsIgnoreCase("none")) {
+                unassigned = true;
+            } else if (value.equalsIgnoreCase("me")) {
+                String username = SecurityContextHolder.getContext().getAuthentication().getName();
+                assigneeId = userRepository.findByUsername(username).map(User::getId)
+                        .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+            } else {
+                try {
+                    assigneeId = Long.valueOf(value);
+                } catch (NumberFormatException ex) {
+                    throw new IllegalStateException("assignee must be a user id, 'me' or 'none'");
+                }
+            }
+        }
+        if (deadlineFrom != null && deadlineTo != null && deadlineFrom.isAfter(deadlineTo)) {
+            throw new IllegalStateException("deadlineFrom must not be after deadlineTo");
+        }
+        String search = text == null || text.isBlank() ? null : text.trim();
+        if (search != null && search.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalStateException("Search text is limited to " + MAX_TEXT_LENGTH + " characters");
+        }
+        return new TaskFilter(statuses, priorities, assigneeId, unassigned, deadlineFrom, deadlineTo, search);
+    }
+
+    private static void appendFilter(StringBuilder jpql, Map<String, Object> params, TaskFilter filter) {
+        if (!filter.statuses().isEmpty()) {
+            jpql.append(" AND t.status IN :statuses");
+            params.put("statuses", filter.statuses());
+        }
+        if (!filter.priorities().isEmpty()) {
+            jpql.append(" AND t.priority IN :priorities");
+            params.put("priorities", filter.priorities());
+        }
+        if (filter.unassigned()) {
+            jpql.append(" AND t.assignedTo IS NULL");
+        } else if (filter.assigneeId() != null) {
+            jpql.append(" AND t.assignedTo.id = :assigneeId");
+            params.put("assigneeId", filter.assigneeId());
+        }
+        if (filter.deadlineFrom() != null) {
+            jpql.append(" AND t.deadline >= :deadlineFrom");
+            params.put("deadlineFrom", filter.deadlineFrom());
+        }
+        if (filter.deadlineTo() != null) {
+            jpql.append(" AND t.deadline <= :deadlineTo");
+            params.put("deadlineTo", filter.deadlineTo());
+        }
+        if (filter.text() != null) {
+            // Applied to rows already narrowed to one event by the index, so a leading-wildcard LIKE is cheap.
+            jpql.append(" AND (LOWER(t.name) LIKE :text ESCAPE '\\' OR LOWER(t.description) LIKE :text ESCAPE '\\')");
+            params.put("text", "%" + escapeLike(filter.text().toLowerCase(Locale.ROOT)) + "%");
+        }
+    }
+
+    // Rows strictly after the cursor in (key, id) order, with nulls sorting above every value.
+    private static void appendKeyset(StringBuilder jpql, Map<String, Object> params,
+                                     TaskSort sort, boolean desc, TaskCursor after) {
+        String field = "t." + sort.attribute();
+        String cmp = desc ? " < " : " > ";
+        params.put("afterId", after.id());
+        if (after.value() == null) {
+            jpql.append(" AND ((").append(field).append(" IS NULL AND t.id").append(cmp).append(":afterId)")
+                    .append(desc ? " OR " + field + " IS NOT NULL)" : ")");
+            return;
+        }
+        params.put("afterValue", after.value());
+        jpql.append(" AND (").append(field).append(cmp).append(":afterValue")
+                .append(" OR (").append(field).append(" = :afterValue AND t.id").append(cmp).append(":afterId)")
+                .append(sort.nullable() && !desc ? " OR " + field + " IS NULL)" : ")");
+    }
+
+    private static TaskDto toDto(Object[] row) {
+        TaskDto dto = new TaskDto();
+        dto.setId((Long) row[0]);
+        dto.setName((String) row[1]);
+        dto.setDescription((String) row[2]);
+        dto.setStatus((ETaskStatus) row[3]);
+        dto.setPriority((Integer) row[4]);
+        dto.setDeadline((LocalDateTime) row[5]);
+        dto.setCreatedAt((LocalDateTime) row[6]);
+        dto.setUpdatedAt((LocalDateTime) row[7]);
+        if (row[8] != null) {
+            dto.setAssignedTo(new UserDto((Long) row[8], (String) row[9]));
+        }
+        dto.setEventId((Long) row[10]);
+        dto.setEventName((String) row[11]);
+        dto.setVersion((Long) row[12]);
+        return dto;
+    }
+
+    private static Object sortValue(TaskSort sort, TaskDto dto) {
+        return switch (sort) {
+            case CREATED_AT -> dto.getCreatedAt();
+            case DEADLINE -> dto.getDeadline();
+            case PRIORITY -> dto.getPriority();
+            case NAME -> dto.getName();
+        };
+    }
+
+    private static List<String> split(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
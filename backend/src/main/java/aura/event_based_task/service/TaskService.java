@@ -1,23 +1,42 @@
 package aura.event_based_task.service;
 
+import aura.event_based_task.board.TaskBoardAggregates;
+import aura.event_based_task.broadcast.BroadcastEvent;
+import aura.event_based_task.domain.TaskChangedEvent;
+import aura.event_based_task.dto.TaskBoardView;
+import aura.event_based_task.dto.TaskDto;
+import aura.event_based_task.dto.TaskPatch;
+import aura.event_based_task.dto.UserDto;
+import aura.event_based_task.exception.PreconditionRequiredException;
+import aura.event_based_task.exception.ResourceNotFoundException;
+import aura.event_based_task.exception.VersionConflictException;
+import aura.event_based_task.fields.FieldSetWriter;
+import aura.event_based_task.fields.SparseQueries;
+import aura.event_based_task.fields.SparseRow;
 import aura.event_based_task.model.Event;
 import aura.event_based_task.model.Task;
+import aura.event_based_task.model.User;
 import aura.event_based_task.repository.EventRepository;
 import aura.event_based_task.repository.TaskRepository;
+import aura.event_based_task.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 public class TaskService {
@@ -25,13 +44,54 @@ public class TaskService {
     private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
 
     @Autowired private TaskRepository taskRepository;
-    @Autowired private SimpMessagingTemplate messagingTemplate;
+    @Autowired private ApplicationEventPublisher eventPublisher;
     @Autowired private EventService eventService;
     @Autowired private EventRepository eventRepository;
+    @Autowired private NotificationService notificationService;
+    @Autowired private ArchiveService archiveService;
+    @Autowired private SparseQueries sparseQueries;
+    @Autowired private TaskBoardAggregates boardAggregates;
+    @Autowired private UserRepository userRepository;
 
     @PreAuthorize("hasPermission(#eventId, 'Event', 'MEMBER')")
     public List<Task> findTasksByEventId(Long eventId) {
-        return taskRepository.findByEventId(eventId);
+        List<Task> tasks = taskRepository.findByEventId(eventId);
+        // No live tasks may mean the event was archived; that lookup is a primary-key probe.
+        return tasks.isEmpty() ? archiveService.findTasks(eventId).orElse(tasks) : tasks;
+    }
+
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasPermission(#eventId, 'Event', 'MEMBER')")
+    public List<SparseRow> findTasksByEventId(Long eventId, FieldSetWriter<Task> fields) {
+        List<SparseRow> rows = sparseQueries.findAll(fields,
+                (root, query, cb) -> cb.equal(root.get("event").get("id"), eventId), Sort.by("id"));
+        if (!rows.isEmpty()) {
+            return rows;
+        }
+        return archiveService.findTasks(eventId)
+                .map(tasks -> tasks.stream().map(fields::row).toList())
+                .orElse(rows);
+    }
+
+    @PreAuthorize("hasPermission(#eventId, 'Event', 'MEMBER')")
+    public TaskBoardView getBoard(Long eventId, boolean rebuild) {
+        return boardAggregates.get(eventId, rebuild);
+    }
+
+    @PreAuthorize("hasPermission(#taskId, 'Task', 'MEMBER')")
+    public Task getTask(Long taskId) {
+        return taskRepository.findLiveById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+    }
+
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasPermission(#taskId, 'Task', 'MEMBER')")
+    public SparseRow getTask(Long taskId, FieldSetWriter<Task> fields) {
+        return sparseQueries.findAll(fields, (root, query, cb) -> cb.and(
+                        cb.equal(root.get("id"), taskId),
+                        cb.isNull(root.get("event").get("deletedAt"))), Sort.unsorted())
+                .stream().findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
     }
 
     @Transactional
@@ -40,7 +100,7 @@ public class TaskService {
         Event event = eventService.getEventById(eventId);
 
         // *** NEW: Prevent task creation for events that have already passed. ***
-        if (event.getDate().isBefore(LocalDate.now())) {
+        if (event.isExpired()) {
             throw new AccessDeniedException("Cannot create tasks for an event that has already finished.");
         }
 
@@ -52,7 +112,9 @@ public class TaskService {
 
         task.setEvent(event);
         Task savedTask = taskRepository.save(task);
-        messagingTemplate.convertAndSend("/topic/tasks/" + eventId, savedTask);
+        notificationService.taskAssigned(savedTask, username);
+        publishChange(TaskChangedEvent.Type.CREATED, savedTask);
+        broadcast("/topic/tasks/" + eventId, TaskDto.from(savedTask));
         logger.info("Task created: id={}, eventId={}, user={}", savedTask.getId(), eventId, username);
         return savedTask;
     }
@@ -61,19 +123,108 @@ public class TaskService {
     @PreAuthorize("hasPermission(#taskId, 'Task', 'MEMBER')")
     public Optional<Task> updateTask(Long taskId, Task taskDetails) {
         return taskRepository.findById(taskId).map(task -> {
+            // A body read from an earlier GET carries its version; older clients that omit it keep last-write-wins.
+            if (taskDetails.getVersion() != null) {
+                checkVersion(task, taskDetails.getVersion());
+            }
             String username = SecurityContextHolder.getContext().getAuthentication().getName();
             task.setName(taskDetails.getName());
             task.setDescription(taskDetails.getDescription());
             task.setStatus(taskDetails.getStatus());
+            // A PUT without a deadline keeps the current one; clearing it is a merge patch with "deadline": null.
+            if (taskDetails.getDeadline() != null) {
+                task.setDeadline(taskDetails.getDeadline());
+            }
+            boolean reassigned = NotificationService.assigneeChanged(task.getAssignedTo(), taskDetails.getAssignedTo());
             task.setAssignedTo(taskDetails.getAssignedTo());
 
-            Task updatedTask = taskRepository.save(task);
-            messagingTemplate.convertAndSend("/topic/tasks/" + updatedTask.getEvent().getId(), updatedTask);
+            // Flushed so the returned and broadcast task carry the new version and updatedAt.
+            Task updatedTask = taskRepository.saveAndFlush(task);
+            if (reassigned) {
+                notificationService.taskAssigned(updatedTask, username);
+            }
+            publishChange(TaskChangedEvent.Type.UPDATED, updatedTask);
+            broadcast("/topic/tasks/" + updatedTask.getEvent().getId(), TaskDto.from(updatedTask));
             logger.info("Task updated: id={}, user={}", taskId, username);
             return updatedTask;
         });
     }
 
+    /**
+     * Applies a merge patch to the version of the task the client edited. Only fields whose
+     * value actually changes are written (the entity uses dynamic updates), and only those are
+     * broadcast, on the event's task topic. A patch that changes nothing leaves the version as
+     * it is.
+     */
+    @Transactional
+    @PreAuthorize("hasPermission(#taskId, 'Task', 'MEMBER')")
+    public TaskDto patchTask(Long taskId, TaskPatch patch, Long ifMatchVersion) {
+        Long expectedVersion = ifMatchVersion != null ? ifMatchVersion : patch.version();
+        if (expectedVersion == null) {
+            throw new PreconditionRequiredException("Send the version being edited in If-Match or as \"version\"");
+        }
+        Task task = taskRepository.findLiveById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+        checkVersion(task, expectedVersion);
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (patch.has("name")) {
+            patchField(changes, "name", task.getName(), patch.name(), task::setName);
+        }
+        if (patch.has("description")) {
+            patchField(changes, "description", task.getDescription(), patch.description(), task::setDescription);
+        }
+        if (patch.has("status")) {
+            patchField(changes, "status", task.getStatus(), patch.status(), task::setStatus);
+        }
+        if (patch.has("priority")) {
+            patchField(changes, "priority", task.getPriority(), patch.priority(), task::setPriority);
+        }
+        if (patch.has("deadline")) {
+            patchField(changes, "deadline", task.getDeadline(), patch.deadline(), task::setDeadline);
+        }
+        if (patch.has("estimatedHours")) {
+            patchField(changes, "estimatedHours", task.getEstimatedHours(), patch.estimatedHours(), task::setEstimatedHours);
+        }
+        if (patch.has("actualHours")) {
+            patchField(changes, "actualHours", task.getActualHours(), patch.actualHours(), task::setActualHours);
+        }
+        boolean reassigned = false;
+        if (patch.has("assignedToUserId")) {
+            Long assigneeId = patch.assignedToUserId();
+            User current = task.getAssignedTo();
+            if (!Objects.equals(current == null ? null : current.getId(), assigneeId)) {
+                User assignee = assigneeId == null ? null : userRepository.findById(assigneeId)
+                        .orElseThrow(() -> new ResourceNotFoundException("User", "id", assigneeId));
+                task.setAssignedTo(assignee);
+                changes.put("assignedTo", assignee == null ? null : new UserDto(assignee.getId(), assignee.getUsername()));
+                reassigned = assignee != null;
+            }
+        }
+        if (changes.isEmpty()) {
+            return TaskDto.from(task);
+        }
+
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        // Flushed here so the response and the broadcast carry the new version and timestamp.
+        taskRepository.saveAndFlush(task);
+        if (reassigned) {
+            notificationService.taskAssigned(task, username);
+        }
+        publishChange(TaskChangedEvent.Type.UPDATED, task);
+
+        Long eventId = task.getEvent().getId();
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", taskId);
+        payload.put("eventId", eventId);
+        payload.put("version", task.getVersion());
+        payload.put("updatedAt", task.getUpdatedAt() == null ? null : task.getUpdatedAt().toString());
+        payload.put("changes", changes);
+        broadcast("/topic/tasks/" + eventId, payload);
+        logger.info("Task patched: id={}, fields={}, user={}", taskId, changes.keySet(), username);
+        return TaskDto.from(task);
+    }
+
     @Transactional
     @PreAuthorize("hasPermission(#taskId, 'Task', 'ADMIN')")
     public boolean deleteTask(Long taskId) {
@@ -81,10 +232,32 @@ public class TaskService {
             String username = SecurityContextHolder.getContext().getAuthentication().getName();
             Long eventId = task.getEvent().getId();
             taskRepository.delete(task);
-            messagingTemplate.convertAndSend("/topic/tasks/deleted/" + eventId,
-                    Map.of("deletedTaskId", taskId));
+            publishChange(TaskChangedEvent.Type.DELETED, task);
+            broadcast("/topic/tasks/deleted/" + eventId, Map.of("deletedTaskId", taskId));
             logger.info("Task deleted: id={}, user={}", taskId, username);
             return true;
         }).orElse(false);
     }
+
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (!Objects.equals(task.getVersion(), expectedVersion)) {
+            throw new VersionConflictException("Task", task.getId(), expectedVersion, task.getVersion());
+        }
+    }
+
+    private static <V> void patchField(Map<String, Object> changes, String field, V current, V next, Consumer<V> setter) {
+        if (!Objects.equals(current, next)) {
+            setter.accept(next);
+            changes.put(field, next instanceof LocalDateTime time ? time.toString() : next);
+        }
+    }
+
+    private void publishChange(TaskChangedEvent.Type type, Task task) {
+        eventPublisher.publishEvent(TaskChangedEvent.of(type, task));
+    }
+
+    // Delivered by BroadcastDispatcher after commit; nothing is sent if the transaction rolls back.
+    private void broadcast(String destination, Object payload) {
+        eventPublisher.publishEvent(new BroadcastEvent(destination, payload));
+    }
 }
@@ -1,9 +1,11 @@
 package aura.event_based_task.service;
 
+import aura.event_based_task.exception.ResourceNotFoundException;
 import aura.event_based_task.model.User;
 import aura.event_based_task.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -13,6 +15,9 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private StorageService storageService;
+
     /**
      * Finds a user by their ID.
      * @param id The ID of the user to find.
@@ -21,4 +26,17 @@ public class UserService {
     public Optional<User> findById(Long id) {
         return userRepository.findById(id);
     }
-}
\ No newline at end of file
+
+    /**
+     * Points the user's avatar at a stored file, moving the blob reference from the old one.
+     * @param username The user to update.
+     * @param avatarUrl The URL returned by the upload.
+     */
+    @Transactional
+    public void updateAvatarUrl(String username, String avatarUrl) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+        storageService.replace(user.getAvatarUrl(), avatarUrl);
+        user.setAvatarUrl(avatarUrl);
+    }
+}
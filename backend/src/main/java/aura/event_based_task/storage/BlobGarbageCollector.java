@@ -0,0 +1,157 @@
+package aura.event_based_task.storage;
+
+import aura.event_based_task.config.StorageConfig;
+import aura.event_based_task.model.Blob;
+import aura.event_based_task.repository.BlobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Removes blobs nobody references any more, and files no blob row accounts for (left behind by
+ * a crash between writing a file and recording it). Both only touch things older than the grace
+ * period, so an upload whose URL has not been assigned yet is never collected.
+ */
+@Component
+public class BlobGarbageCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlobGarbageCollector.class);
+    private static final int BATCH_SIZE = 200;
+
+    private final BlobStore blobStore;
+    private final VariantCache variantCache;
+    private final BlobRepository blobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StorageConfig config;
+
+    public BlobGarbageCollector(BlobStore blobStore, VariantCache variantCache, BlobRepository blobRepository,
+                                TransactionTemplate transactionTemplate, StorageConfig config) {
+        this.blobStore = blobStore;
+        this.variantCache = variantCache;
+        this.blobRepository = blobRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.config = config;
+    }
+
+    @Scheduled(fixedDelayString = "${app.storage.gc-interval-ms:3600000}",
+            initialDelayString = "${app.storage.gc-interval-ms:3600000}")
+    public void sweep() {
+        try {
+            int blobs = sweepUnreferenced();
+            int orphans = sweepOrphanFiles();
+            if (blobs > 0 || orphans > 0) {
+                logger.info("Blob GC removed {} unreferenced blobs and {} orphaned files", blobs, orphans);
+            }
+        } catch (IOException | RuntimeException ex) {
+            logger.error("Blob GC sweep failed", ex);
+        }
+    }
+
+    private int sweepUnreferenced() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(config.getGcGrace());
+        int removed = 0;
+        List<Blob> batch;
+        do {
+            batch = blobRepository.findUnreferenced(cutoff, PageRequest.of(0, BATCH_SIZE));
+            for (Blob blob : batch) {
+                boolean deleted = blobStore.withLock(blob.getHash(), () -> {
+                    Integer rows = transactionTemplate.execute(status -> blobRepository.deleteIfUnreferenced(blob.getHash(), cutoff));
+                    if (rows == null || rows == 0) {
+                        return false;
+                    }
+                    deleteQuietly(blobStore.originalPath(blob.getHash(), blob.getExtension()));
+                    variantCache.removeBlob(blob.getHash());
+                    return true;
+                });
+                if (deleted) {
+                    removed++;
+                }
+            }
+        } while (batch.size() == BATCH_SIZE);
+        return removed;
+    }
+
+    private int sweepOrphanFiles() throws IOException {
+        Instant cutoff = Instant.now().minus(config.getGcGrace());
+        int removed = 0;
+        List<Path> candidates = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(blobStore.getRoot())) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                if (Files.getLastModifiedTime(file).toInstant().isAfter(cutoff)) {
+                    continue;
+                }
+                if (file.startsWith(blobStore.getTmp())) {
+                    // Abandoned upload or variant temp file.
+                    deleteQuietly(file);
+                    removed++;
+                    continue;
+                }
+                candidates.add(file);
+                if (candidates.size() == BATCH_SIZE) {
+                    removed += deleteUnknown(candidates);
+                    candidates.clear();
+                }
+            }
+        }
+        removed += deleteUnknown(candidates);
+        return removed;
+    }
+
+    private int deleteUnknown(List<Path> files) {
+        Set<String> hashes = new HashSet<>();
+        for (Path file : files) {
+            String hash = hashOf(file);
+            if (hash != null) {
+                hashes.add(hash);
+            }
+        }
+        Set<String> known = hashes.isEmpty() ? Set.of() : new HashSet<>(blobRepository.findExistingHashes(hashes));
+        int removed = 0;
+        for (Path file : files) {
+            String hash = hashOf(file);
+            if (hash != null && !known.contains(hash)) {
+                boolean deleted = blobStore.withLock(hash, () -> {
+                    // Re-check under the lock: the same content may have been uploaded meanwhile.
+                    if (blobRepository.existsById(hash)) {
+                        return false;
+                    }
+                    deleteQuietly(file);
+                    variantCache.removeBlob(hash);
+                    return true;
+                });
+                if (deleted) {
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    // Originals are named <hash>.<ext>, variants <hash>-<variant>.<ext>.
+    private static String hashOf(Path file) {
+        String name = file.getFileName().toString();
+        return name.length() >= 64 && name.substring(0, 64).matches("[0-9a-f]{64}") ? name.substring(0, 64) : null;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            logger.warn("Could not delete {}: {}", file, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package aura.event_based_task.storage;
+
+import aura.event_based_task.config.StorageConfig;
+import aura.event_based_task.model.Blob;
+import aura.event_based_task.repository.BlobRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed file layout under {@code app.storage.upload-path}:
+ * <pre>
+ *   ab/cd/abcd...(64 hex).ext          originals, sharded by the first two hash bytes
+ *   variants/ab/abcd...-small.jpg      resized variants (see {@link VariantCache})
+ *   tmp/                             uploads being hashed
+ * </pre>
+ * Identical content always maps to the same path, so it is stored once. Placing a file and
+ * deleting it in the GC sweep both happen under the hash's lock, so a re-upload can never lose
+ * its file to a concurrent sweep.
+ */
+@Component
+public class BlobStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlobStore.class);
+
+    public static final Pattern BLOB_NAME = Pattern.compile("([0-9a-f]{64})\\.(jpg|png|gif|webp)");
+    private static final int LOCK_STRIPES = 64;
+
+    public record StoredBlob(String hash, String extension, long size) {
+        public String fileName() {
+            return hash + "." + extension;
+        }
+    }
+
+    private final StorageConfig config;
+    private final BlobRepository blobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private Path root;
+    private Path tmp;
+
+    public BlobStore(StorageConfig config, BlobRepository blobRepository, TransactionTemplate transactionTemplate) {
+        this.config = config;
+        this.blobRepository = blobRepository;
+        this.transactionTemplate = transactionTemplate;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(config.getUploadPath()).toAbsolutePath().normalize();
+        tmp = root.resolve("tmp");
+        Files.createDirectories(tmp);
+        logger.info("Blob store at {}", root);
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    public Path getTmp() {
+        return tmp;
+    }
+
+    public Path originalPath(String hash, String extension) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash + "." + extension);
+    }
+
+    /**
+     * Streams {@code content} to a temp file while hashing it, then moves it to its
+     * content-addressed path unless that content is already stored. The blob row is created
+     * (or its grace period renewed) before the file is placed.
+     */
+    public StoredBlob store(InputStream content, String extension) throws IOException {
+        Path temp = Files.createTempFile(tmp, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            StoredBlob blob = new StoredBlob(hash, extension, size);
+            withLock(hash, () -> {
+                register(blob);
+                Path target = originalPath(hash, extension);
+                if (!Files.exists(target)) {
+                    try {
+                        Files.createDirectories(target.getParent());
+                        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (FileAlreadyExistsException ignored) {
+                        // Same content placed in the meantime; ours is the duplicate.
+                    } catch (IOException ex) {
+                        throw new StorageIOException(ex);
+                    }
+                }
+                return null;
+            });
+            return blob;
+        } catch (StorageIOException ex) {
+            throw ex.getCause();
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public <T> T withLock(String hash, Supplier<T> action) {
+        ReentrantLock lock = locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Splits a public file name into hash and extension, or returns null if it is not one of ours. */
+    public static Matcher parseName(String name) {
+        if (name == null) {
+            return null;
+        }
+        Matcher matcher = BLOB_NAME.matcher(name);
+        return matcher.matches() ? matcher : null;
+    }
+
+    private void register(StoredBlob blob) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (blobRepository.touch(blob.hash(), now) == 0) {
+                    blobRepository.save(new Blob(blob.hash(), blob.extension(), blob.size(), now));
+                }
+            });
+        } catch (DataIntegrityViolationException ex) {
+            // Inserted concurrently by another instance; just renew its grace period.
+            transactionTemplate.executeWithoutResult(status -> blobRepository.touch(blob.hash(), now));
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final class StorageIOException extends RuntimeException {
+        private StorageIOException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+}
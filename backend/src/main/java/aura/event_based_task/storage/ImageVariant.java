@@ -0,0 +1,34 @@
+package aura.event_based_task.storage;
+
+import java.util.Locale;
+import java.util.Optional;
+
+// Bounding-box sizes served instead of the original: avatars and blur-up placeholders, cards, detail views.
+public enum ImageVariant {
+    THUMB(64),
+    SMALL(320),
+    MEDIUM(960);
+
+    private final int maxDimension;
+
+    ImageVariant(int maxDimension) {
+        this.maxDimension = maxDimension;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static Optional<ImageVariant> fromKey(String key) {
+        for (ImageVariant variant : values()) {
+            if (variant.key().equalsIgnoreCase(key)) {
+                return Optional.of(variant);
+            }
+        }
+        return Optional.empty();
+    }
+}
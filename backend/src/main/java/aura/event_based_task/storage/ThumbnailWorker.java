@@ -0,0 +1,189 @@
+package aura.event_based_task.storage;
+
+import aura.event_based_task.config.StorageConfig;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates resized variants on a bounded pool. When the queue is full the job is dropped:
+ * the original keeps being served and the next request for the variant asks again.
+ *
+ * <p>Decoding uses source subsampling, so a large original is never expanded to full
+ * resolution in memory just to produce a small variant.
+ */
+@Component
+public class ThumbnailWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailWorker.class);
+
+    // Originals beyond this are not decoded at all (decompression-bomb guard).
+    private static final long MAX_PIXELS = 80_000_000L;
+
+    private final BlobStore blobStore;
+    private final VariantCache variantCache;
+    private final ThreadPoolExecutor pool;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ThumbnailWorker(BlobStore blobStore, VariantCache variantCache, StorageConfig config) {
+        this.blobStore = blobStore;
+        this.variantCache = variantCache;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(config.getThumbnailThreads(), config.getThumbnailThreads(),
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(config.getThumbnailQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnails-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                },
+                (runnable, executor) -> {
+                    logger.debug("Thumbnail queue full, dropping job");
+                    if (runnable instanceof Job job) {
+                        inFlight.remove(job.hash);
+                    }
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    public static boolean supports(String extension) {
+        // ImageIO has no WebP codec; WebP originals are always served as uploaded.
+        return !"webp".equals(extension);
+    }
+
+    public static String variantExtension(String originalExtension) {
+        return "jpg".equals(originalExtension) ? "jpg" : "png";
+    }
+
+    /** Queues generation of every variant of the blob that is not cached yet. */
+    public void submit(String hash, String extension) {
+        if (!supports(extension) || !inFlight.add(hash)) {
+            return;
+        }
+        pool.execute(new Job(hash, extension));
+    }
+
+    private final class Job implements Runnable {
+        private final String hash;
+        private final String extension;
+
+        private Job(String hash, String extension) {
+            this.hash = hash;
+            this.extension = extension;
+        }
+
+        @Override
+        public void run() {
+            try {
+                generate(hash, extension);
+            } catch (IOException | RuntimeException ex) {
+                logger.warn("Could not generate variants for {}: {}", hash, ex.toString());
+            } finally {
+                inFlight.remove(hash);
+            }
+        }
+    }
+
+    private void generate(String hash, String extension) throws IOException {
+        Path original = blobStore.originalPath(hash, extension);
+        if (!Files.exists(original)) {
+            return;
+        }
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS) {
+                    logger.warn("Skipping variants for {}: {}x{} exceeds the decode limit", hash, width, height);
+                    return;
+                }
+                String outputExtension = variantExtension(extension);
+                // Largest first; each smaller variant is scaled from the previous one.
+                BufferedImage source = null;
+                ImageVariant[] variants = ImageVariant.values();
+                for (int i = variants.length - 1; i >= 0; i--) {
+                    ImageVariant variant = variants[i];
+                    Path target = variantCache.path(hash, variant, outputExtension);
+                    if (variantCache.lookup(target) != null) {
+                        continue;
+                    }
+                    if (source == null) {
+                        source = decode(reader, width, height, variants[variants.length - 1].getMaxDimension());
+                    }
+                    BufferedImage scaled = scale(source, variant.getMaxDimension(), "png".equals(outputExtension));
+                    write(scaled, outputExtension, target);
+                    source = scaled;
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage decode(ImageReader reader, int width, int height, int targetDimension) throws IOException {
+        ImageReadParam param = reader.getDefaultReadParam();
+        int factor = Math.max(1, Math.max(width, height) / (targetDimension * 2));
+        param.setSourceSubsampling(factor, factor, 0, 0);
+        return reader.read(0, param);
+    }
+
+    private static BufferedImage scale(BufferedImage source, int maxDimension, boolean keepAlpha) {
+        double ratio = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        BufferedImage scaled = new BufferedImage(width, height, keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private void write(BufferedImage image, String extension, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(blobStore.getTmp(), "variant-", "." + extension);
+        try {
+            if (!ImageIO.write(image, extension, temp.toFile())) {
+                throw new IOException("No ImageIO writer for " + extension);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            variantCache.add(target, Files.size(target));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package aura.event_based_task.storage;
+
+import aura.event_based_task.config.StorageConfig;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Size-bounded LRU over the resized variants on disk. Variants are derived data: an evicted one
+ * is simply regenerated from the original on its next request. Recency survives a restart
+ * approximately, by rebuilding the order from file modification times.
+ */
+@Component
+public class VariantCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(VariantCache.class);
+
+    private final BlobStore blobStore;
+    private final long maxBytes;
+    // Access-ordered: iteration starts at the least recently served variant.
+    private final LinkedHashMap<Path, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    private Path variantsRoot;
+
+    public VariantCache(BlobStore blobStore, StorageConfig config) {
+        this.blobStore = blobStore;
+        this.maxBytes = config.getVariantCacheMaxSize().toBytes();
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        variantsRoot = blobStore.getRoot().resolve("variants");
+        Files.createDirectories(variantsRoot);
+        List<Path> existing;
+        try (Stream<Path> files = Files.walk(variantsRoot)) {
+            existing = files.filter(Files::isRegularFile)
+                    .sorted(Comparator.comparingLong(VariantCache::lastModified))
+                    .toList();
+        }
+        synchronized (this) {
+            for (Path file : existing) {
+                entries.put(file, size(file));
+                totalBytes += entries.get(file);
+            }
+            evictOverflow();
+        }
+        logger.info("Variant cache: {} files, {} bytes of {}", entries.size(), totalBytes, maxBytes);
+    }
+
+    public Path path(String hash, ImageVariant variant, String extension) {
+        return variantsRoot.resolve(hash.substring(0, 2)).resolve(hash + "-" + variant.key() + "." + extension);
+    }
+
+    /** Returns the variant if cached, marking it most recently used. */
+    public synchronized Path lookup(Path variantPath) {
+        return entries.get(variantPath) != null ? variantPath : null;
+    }
+
+    public synchronized void add(Path variantPath, long size) {
+        Long previous = entries.put(variantPath, size);
+        totalBytes += size - (previous != null ? previous : 0);
+        evictOverflow();
+    }
+
+    public synchronized void removeBlob(String hash) {
+        Iterator<Map.Entry<Path, Long>> it = entries.entrySet().iterator();
+        List<Path> removed = new ArrayList<>();
+        while (it.hasNext()) {
+            Map.Entry<Path, Long> entry = it.next();
+            if (entry.getKey().getFileName().toString().startsWith(hash)) {
+                totalBytes -= entry.getValue();
+                removed.add(entry.getKey());
+                it.remove();
+            }
+        }
+        removed.forEach(VariantCache::deleteQuietly);
+    }
+
+    public Path getVariantsRoot() {
+        return variantsRoot;
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Path, Long>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<Path, Long> eldest = it.next();
+            totalBytes -= eldest.getValue();
+            it.remove();
+            deleteQuietly(eldest.getKey());
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException ex) {
+            return 0;
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class).lastModifiedTime().toMillis();
+        } catch (IOException ex) {
+            return 0;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            logger.warn("Could not delete variant {}: {}", file, ex.getMessage());
+        }
+    }
+}
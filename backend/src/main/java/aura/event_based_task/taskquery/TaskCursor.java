@@ -0,0 +1,33 @@
+package aura.event_based_task.taskquery;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a page: the sort key's value and the task id. Encoded opaquely
+ * with the sort it was issued for, so it cannot be replayed against a different ordering.
+ */
+public record TaskCursor(TaskSort sort, boolean descending, Long id, Object value) {
+
+    public String encode() {
+        String raw = sort.name() + "|" + (descending ? "d" : "a") + "|" + id + "|"
+                + (value == null ? "n" : "v" + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String cursor, TaskSort sort, boolean descending) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // The value goes last; names may contain the separator.
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || TaskSort.valueOf(parts[0]) != sort || parts[1].equals("d") != descending) {
+                throw new IllegalStateException("The cursor belongs to a different sort order.");
+            }
+            Object value = parts[3].startsWith("v") ? sort.parseValue(parts[3].substring(1)) : null;
+            return new TaskCursor(sort, descending, Long.valueOf(parts[2]), value);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalStateException("Malformed cursor.");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package aura.event_based_task.taskquery;
+
+import aura.event_based_task.model.ETaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Task query filters; empty sets and nulls mean "no constraint". {@code unassigned} and
+ * {@code assigneeId} are exclusive.
+ */
+public record TaskFilter(Set<ETaskStatus> statuses,
+                         Set<Integer> priorities,
+                         Long assigneeId,
+                         boolean unassigned,
+                         LocalDateTime deadlineFrom,
+                         LocalDateTime deadlineTo,
+                         String text) {
+}
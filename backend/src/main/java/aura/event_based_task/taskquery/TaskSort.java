@@ -0,0 +1,57 @@
+package aura.event_based_task.taskquery;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Sort keys for task queries. Every key is paired with the task id as a tie-breaker, and each
+ * has an (event_id, key, id) index, so a page is one ordered index range.
+ */
+public enum TaskSort {
+    CREATED_AT("createdAt", true, true, LocalDateTime::parse),
+    DEADLINE("deadline", true, false, LocalDateTime::parse),
+    PRIORITY("priority", true, false, Integer::valueOf),
+    NAME("name", false, false, value -> value);
+
+    private final String attribute;
+    private final boolean nullable;
+    private final boolean descendingByDefault;
+    private final Function<String, Object> parser;
+
+    TaskSort(String attribute, boolean nullable, boolean descendingByDefault, Function<String, Object> parser) {
+        this.attribute = attribute;
+        this.nullable = nullable;
+        this.descendingByDefault = descendingByDefault;
+        this.parser = parser;
+    }
+
+    public String attribute() {
+        return attribute;
+    }
+
+    public boolean nullable() {
+        return nullable;
+    }
+
+    public boolean descendingByDefault() {
+        return descendingByDefault;
+    }
+
+    Object parseValue(String value) {
+        return parser.apply(value);
+    }
+
+    public static TaskSort fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return CREATED_AT;
+        }
+        for (TaskSort sort : values()) {
+            if (sort.attribute.equalsIgnoreCase(value.trim())) {
+                return sort;
+            }
+        }
+        throw new IllegalStateException("sort must be one of createdAt, deadline, priority, name; got '"
+                + value.toLowerCase(Locale.ROOT) + "'");
+    }
+}
@@ -0,0 +1,27 @@
+-- Bulk CSV/NDJSON imports. Counters advance with every committed chunk, so a running job's
+-- row is its progress report; rejected rows are listed in import_job_errors up to a cap.
+CREATE TABLE import_jobs (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username       VARCHAR(20)  NOT NULL,
+    target         VARCHAR(20)  NOT NULL,
+    format         VARCHAR(20)  NOT NULL,
+    status         VARCHAR(20)  NOT NULL,
+    rows_imported  BIGINT       NOT NULL DEFAULT 0,
+    rows_failed    BIGINT       NOT NULL DEFAULT 0,
+    message        VARCHAR(500),
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    completed_at   TIMESTAMP(6)
+);
+
+CREATE INDEX idx_import_jobs_user_created ON import_jobs (username, created_at);
+
+CREATE TABLE import_job_errors (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_id   BIGINT       NOT NULL,
+    line     BIGINT       NOT NULL,
+    message  VARCHAR(500) NOT NULL,
+    CONSTRAINT fk_import_job_errors_job FOREIGN KEY (job_id) REFERENCES import_jobs (id)
+);
+
+CREATE INDEX idx_import_job_errors_job_line ON import_job_errors (job_id, line);
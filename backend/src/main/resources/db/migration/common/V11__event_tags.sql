@@ -0,0 +1,11 @@
+-- Normalized event tags: one row per (event, tag), kept in step with events.tags by Hibernate
+-- (Event.tagIndex). Rows go with their event, including the JDBC deletes of the purger and
+-- the archiver.
+CREATE TABLE event_tags (
+    event_id BIGINT NOT NULL REFERENCES events (id) ON DELETE CASCADE,
+    tag VARCHAR(50) NOT NULL,
+    PRIMARY KEY (event_id, tag)
+);
+
+-- Tag filters go from tag to events; the primary key only serves lookups by event.
+CREATE INDEX idx_event_tags_tag ON event_tags (tag, event_id);
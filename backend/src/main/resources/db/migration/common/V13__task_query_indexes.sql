@@ -0,0 +1,10 @@
+-- Keyset access paths for the task query API: each sort key is indexed within an event and
+-- ends with the id tie-breaker, so "WHERE event_id = ? AND (key, id) after the cursor
+-- ORDER BY key, id LIMIT n" reads one index range in either direction, without a sort.
+CREATE INDEX idx_task_event_created ON tasks (event_id, created_at, id);
+CREATE INDEX idx_task_event_deadline ON tasks (event_id, deadline, id);
+CREATE INDEX idx_task_event_priority ON tasks (event_id, priority, id);
+CREATE INDEX idx_task_event_name ON tasks (event_id, name, id);
+
+-- "Assigned to X within this event"; the single-column assignee index spans every event.
+CREATE INDEX idx_task_event_assignee ON tasks (event_id, assigned_to_user_id);
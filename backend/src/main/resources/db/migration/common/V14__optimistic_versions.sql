@@ -0,0 +1,4 @@
+-- Optimistic concurrency for tasks and events (JPA @Version). Existing rows start at 0; a
+-- constant default needs no table rewrite on PostgreSQL 11+.
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE events ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
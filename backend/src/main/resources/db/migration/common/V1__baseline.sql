@@ -0,0 +1,102 @@
+-- Baseline schema, equivalent to what spring.jpa.hibernate.ddl-auto=update produced before
+-- Flyway took ownership. Existing databases are baselined at version 1 and skip this script.
+
+CREATE TABLE users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username    VARCHAR(20)  NOT NULL,
+    password    VARCHAR(120) NOT NULL,
+    email       VARCHAR(50),
+    full_name   VARCHAR(100),
+    bio         VARCHAR(500),
+    avatar_url  VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE user_roles (
+    user_id    BIGINT NOT NULL,
+    role_name  VARCHAR(255),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE events (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name                VARCHAR(255) NOT NULL,
+    description         VARCHAR(500) NOT NULL,
+    date                DATE         NOT NULL,
+    location            VARCHAR(255),
+    max_participants    INTEGER,
+    category            VARCHAR(255),
+    tags                VARCHAR(255),
+    is_recurring        BOOLEAN,
+    recurrence_pattern  VARCHAR(255),
+    image_url           VARCHAR(255),
+    created_at          TIMESTAMP(6),
+    updated_at          TIMESTAMP(6),
+    creator_id          BIGINT NOT NULL,
+    CONSTRAINT fk_events_creator FOREIGN KEY (creator_id) REFERENCES users (id)
+);
+
+CREATE TABLE event_members (
+    event_id  BIGINT NOT NULL,
+    user_id   BIGINT NOT NULL,
+    PRIMARY KEY (event_id, user_id),
+    CONSTRAINT fk_event_members_event FOREIGN KEY (event_id) REFERENCES events (id),
+    CONSTRAINT fk_event_members_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE tasks (
+    id                   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name                 VARCHAR(255) NOT NULL,
+    description          VARCHAR(255),
+    status               VARCHAR(255) NOT NULL,
+    priority             INTEGER,
+    deadline             TIMESTAMP(6),
+    estimated_hours      INTEGER,
+    actual_hours         INTEGER,
+    created_at           TIMESTAMP(6),
+    updated_at           TIMESTAMP(6),
+    assigned_to_user_id  BIGINT,
+    created_by_user_id   BIGINT,
+    event_id             BIGINT NOT NULL,
+    CONSTRAINT fk_tasks_assigned_to FOREIGN KEY (assigned_to_user_id) REFERENCES users (id),
+    CONSTRAINT fk_tasks_created_by FOREIGN KEY (created_by_user_id) REFERENCES users (id),
+    CONSTRAINT fk_tasks_event FOREIGN KEY (event_id) REFERENCES events (id)
+);
+
+CREATE TABLE task_dependencies (
+    task_id        BIGINT NOT NULL,
+    dependency_id  BIGINT NOT NULL,
+    PRIMARY KEY (task_id, dependency_id),
+    CONSTRAINT fk_task_dependencies_task FOREIGN KEY (task_id) REFERENCES tasks (id),
+    CONSTRAINT fk_task_dependencies_dependency FOREIGN KEY (dependency_id) REFERENCES tasks (id)
+);
+
+CREATE TABLE chat_messages (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content    TEXT,
+    timestamp  TIMESTAMP(6),
+    sender_id  BIGINT NOT NULL,
+    event_id   BIGINT NOT NULL,
+    CONSTRAINT fk_chat_messages_sender FOREIGN KEY (sender_id) REFERENCES users (id),
+    CONSTRAINT fk_chat_messages_event FOREIGN KEY (event_id) REFERENCES events (id)
+);
+
+CREATE INDEX idx_user_username ON users (username);
+CREATE INDEX idx_user_email ON users (email);
+CREATE INDEX idx_user_created_at ON users (created_at);
+
+CREATE INDEX idx_event_date ON events (date);
+CREATE INDEX idx_event_creator ON events (creator_id);
+CREATE INDEX idx_event_category ON events (category);
+CREATE INDEX idx_event_created_at ON events (created_at);
+CREATE INDEX idx_event_name ON events (name);
+
+CREATE INDEX idx_task_status ON tasks (status);
+CREATE INDEX idx_task_priority ON tasks (priority);
+CREATE INDEX idx_task_deadline ON tasks (deadline);
+CREATE INDEX idx_task_assigned_to ON tasks (assigned_to_user_id);
+CREATE INDEX idx_task_event ON tasks (event_id);
+CREATE INDEX idx_task_created_at ON tasks (created_at);
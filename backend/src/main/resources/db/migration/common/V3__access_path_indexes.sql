@@ -0,0 +1,17 @@
+-- Composite indexes matching the hot access paths.
+
+-- findByMembers_Id / isUserMember walk event_members from the user side; the primary key
+-- (event_id, user_id) only serves lookups by event. Both columns are in the index, so the
+-- join never has to visit the table.
+CREATE INDEX idx_event_members_user_event ON event_members (user_id, event_id);
+
+-- Chat history: WHERE event_id = ? ORDER BY timestamp, served in index order without a sort.
+CREATE INDEX idx_chat_event_timestamp ON chat_messages (event_id, timestamp);
+
+-- Task board views filter by event and status. This also covers lookups by event alone,
+-- which makes the single-column event index redundant.
+CREATE INDEX idx_task_event_status ON tasks (event_id, status);
+DROP INDEX idx_task_event;
+
+-- Reverse dependency lookups ("which tasks depend on X") and the FK check on task deletion.
+CREATE INDEX idx_task_dependencies_dependency ON task_dependencies (dependency_id, task_id);
@@ -0,0 +1,21 @@
+-- Persistent queue behind the notification digest pipeline. Rows are written in the same
+-- transaction as the change they describe and removed from the queue by status, never deleted
+-- by the sender, so a crash between claim and send is recoverable.
+CREATE TABLE notification_queue (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    recipient_id     BIGINT       NOT NULL,
+    type             VARCHAR(30)  NOT NULL,
+    message          VARCHAR(500) NOT NULL,
+    event_id         BIGINT,
+    status           VARCHAR(20)  NOT NULL,
+    attempts         INTEGER      NOT NULL DEFAULT 0,
+    last_error       VARCHAR(500),
+    created_at       TIMESTAMP(6) NOT NULL,
+    next_attempt_at  TIMESTAMP(6) NOT NULL,
+    sent_at          TIMESTAMP(6),
+    CONSTRAINT fk_notification_queue_recipient FOREIGN KEY (recipient_id) REFERENCES users (id)
+);
+
+-- The poller looks for due PENDING rows; the digest then loads one recipient's pending rows.
+CREATE INDEX idx_notification_status_due ON notification_queue (status, next_attempt_at);
+CREATE INDEX idx_notification_recipient_status ON notification_queue (recipient_id, status);
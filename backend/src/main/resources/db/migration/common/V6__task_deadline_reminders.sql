@@ -0,0 +1,10 @@
+-- One row per deadline reminder sent. The deadline is part of the key, so moving a task's
+-- deadline makes it eligible for fresh reminders while a restart never repeats old ones.
+CREATE TABLE task_deadline_reminders (
+    task_id        BIGINT       NOT NULL,
+    reminder_type  VARCHAR(30)  NOT NULL,
+    deadline       TIMESTAMP(6) NOT NULL,
+    sent_at        TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (task_id, reminder_type, deadline),
+    CONSTRAINT fk_task_deadline_reminders_task FOREIGN KEY (task_id) REFERENCES tasks (id) ON DELETE CASCADE
+);
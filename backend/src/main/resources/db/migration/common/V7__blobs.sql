@@ -0,0 +1,13 @@
+-- Content-addressed image store. One row per distinct file (SHA-256 of its bytes); ref_count
+-- counts the events.image_url / users.avatar_url values pointing at it. Rows at zero are
+-- removed, with their files, by the GC sweep once updated_at is older than the grace period.
+CREATE TABLE blobs (
+    hash        CHAR(64)     NOT NULL PRIMARY KEY,
+    extension   VARCHAR(8)   NOT NULL,
+    size        BIGINT       NOT NULL,
+    ref_count   INTEGER      NOT NULL DEFAULT 0,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_blobs_unreferenced ON blobs (ref_count, updated_at);
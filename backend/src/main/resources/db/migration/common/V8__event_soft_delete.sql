@@ -0,0 +1,21 @@
+-- Deleting an event only stamps deleted_at; the tasks, chat history and memberships are removed
+-- afterwards in small chunks by the purger, which records its progress in event_purges.
+ALTER TABLE events ADD COLUMN deleted_at TIMESTAMP(6);
+
+-- Not a foreign key: the purge row outlives the event it removes.
+CREATE TABLE event_purges (
+    event_id          BIGINT       PRIMARY KEY,
+    requested_by      VARCHAR(50),
+    status            VARCHAR(20)  NOT NULL,
+    attempts          INTEGER      NOT NULL DEFAULT 0,
+    tasks_total       BIGINT,
+    tasks_deleted     BIGINT       NOT NULL DEFAULT 0,
+    messages_total    BIGINT,
+    messages_deleted  BIGINT       NOT NULL DEFAULT 0,
+    last_error        VARCHAR(500),
+    requested_at      TIMESTAMP(6) NOT NULL,
+    started_at        TIMESTAMP(6),
+    completed_at      TIMESTAMP(6)
+);
+
+CREATE INDEX idx_event_purges_status ON event_purges (status);
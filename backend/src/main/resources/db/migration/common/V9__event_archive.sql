@@ -0,0 +1,19 @@
+-- Cold tier for expired events. The row keeps what lists and permission checks need; the event
+-- body, tasks and chat history live in payload as gzip-compressed JSON.
+CREATE TABLE event_archive (
+    event_id       BIGINT       PRIMARY KEY,
+    name           VARCHAR(255) NOT NULL,
+    event_date     DATE         NOT NULL,
+    creator_id     BIGINT       NOT NULL,
+    task_count     INTEGER      NOT NULL,
+    message_count  INTEGER      NOT NULL,
+    payload        BYTEA        NOT NULL,
+    archived_at    TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE event_archive_members (
+    event_id  BIGINT NOT NULL,
+    user_id   BIGINT NOT NULL,
+    PRIMARY KEY (event_id, user_id),
+    CONSTRAINT fk_event_archive_members_event FOREIGN KEY (event_id) REFERENCES event_archive (event_id)
+);
@@ -0,0 +1,5 @@
+-- Sequences for the pooled-lo id generators. H2 databases are always created fresh, so the
+-- sequences can simply start at 1.
+CREATE SEQUENCE IF NOT EXISTS events_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS chat_messages_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,31 @@
+-- Existing comma-separated tags, normalized the way EventTags does: trimmed, lower case,
+-- truncated, deduplicated in first-seen order. events.tags is rewritten first so that it and
+-- event_tags agree, as they do for rows written through Event.setTags.
+UPDATE events e
+SET tags = normalized.tags
+FROM (
+    SELECT id, string_agg(tag, ',' ORDER BY ord) AS tags
+    FROM (
+        SELECT e.id, LEFT(LOWER(TRIM(t.tag)), 50) AS tag, MIN(t.ord) AS ord
+        FROM events e
+        CROSS JOIN LATERAL regexp_split_to_table(e.tags, ',') WITH ORDINALITY AS t(tag, ord)
+        WHERE e.tags IS NOT NULL AND TRIM(t.tag) <> ''
+        GROUP BY e.id, LEFT(LOWER(TRIM(t.tag)), 50)
+    ) distinct_tags
+    GROUP BY id
+) normalized
+WHERE e.id = normalized.id;
+
+-- Lists holding only blanks and commas normalize to no tags.
+UPDATE events SET tags = NULL
+WHERE tags IS NOT NULL AND TRIM(REPLACE(tags, ',', '')) = '';
+
+INSERT INTO event_tags (event_id, tag)
+SELECT e.id, t.tag
+FROM events e
+CROSS JOIN LATERAL regexp_split_to_table(e.tags, ',') AS t(tag)
+WHERE e.tags IS NOT NULL;
+
+-- Category filters are exact matches on EventTags.categoryKey (trimmed, lower case) instead of
+-- a LIKE scan.
+CREATE INDEX idx_event_category_lower ON events (LOWER(TRIM(category)));
@@ -0,0 +1,24 @@
+-- Sequences for the pooled-lo id generators of events, tasks and chat_messages.
+--
+-- With the pooled-lo optimizer each nextval() reserves the block [value, value + 49], so the
+-- sequences increment by 50 (the entities' allocationSize) and must start past the highest id
+-- already in use. If a previous ddl-auto run already created a sequence, it is only ever moved
+-- forward, past the block it last handed out.
+
+CREATE SEQUENCE IF NOT EXISTS events_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tasks_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS chat_messages_seq INCREMENT BY 50;
+
+ALTER SEQUENCE events_seq INCREMENT BY 50;
+ALTER SEQUENCE tasks_seq INCREMENT BY 50;
+ALTER SEQUENCE chat_messages_seq INCREMENT BY 50;
+
+SELECT setval('events_seq', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) + 1 FROM events),
+        (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM events_seq)), false);
+SELECT setval('tasks_seq', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) + 1 FROM tasks),
+        (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM tasks_seq)), false);
+SELECT setval('chat_messages_seq', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) + 1 FROM chat_messages),
+        (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM chat_messages_seq)), false);
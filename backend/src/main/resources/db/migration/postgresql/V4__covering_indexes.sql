@@ -0,0 +1,5 @@
+-- PostgreSQL-only covering index: per-event status/priority/hours summaries and board counts
+-- are answered with an index-only scan.
+CREATE INDEX idx_task_event_status_covering ON tasks (event_id, status)
+    INCLUDE (priority, estimated_hours, actual_hours, deadline);
+DROP INDEX idx_task_event_status;
@@ -0,0 +1,154 @@
+package aura.event_based_task.benchmark;
+
+import aura.event_based_task.fields.FieldSetWriter;
+import aura.event_based_task.fields.ResourceFieldSets;
+import aura.event_based_task.fields.ResourceFields;
+import aura.event_based_task.fields.SparseQueries;
+import aura.event_based_task.fields.SparseRow;
+import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.model.Event;
+import aura.event_based_task.model.Task;
+import aura.event_based_task.model.User;
+import aura.event_based_task.repository.EventRepository;
+import aura.event_based_task.repository.TaskRepository;
+import aura.event_based_task.repository.UserRepository;
+import aura.event_based_task.support.TestData;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reports what sparse fieldsets save on the frontend's typical views. For each view it
+ * serializes a seeded page the full way and through the view's field set, logs response bytes
+ * and selected columns for both, and fails if the field set saves neither.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class FieldSetReportTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(FieldSetReportTest.class);
+
+    private static final int EVENTS = 5;
+    private static final int TASKS = 20;
+
+    private static final Map<String, String> EVENT_VIEWS = new LinkedHashMap<>();
+    private static final Map<String, String> TASK_VIEWS = new LinkedHashMap<>();
+
+    static {
+        EVENT_VIEWS.put("event list card", "name,date,location,category,imageUrl");
+        EVENT_VIEWS.put("event picker", "name,date");
+        TASK_VIEWS.put("task board card", "name,status,priority,deadline,assignedTo");
+        TASK_VIEWS.put("deadline list", "name,status,deadline,eventId");
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private SparseQueries sparseQueries;
+    @Autowired private ObjectMapper objectMapper;
+
+    private User owner;
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        TestData data = new TestData(userRepository, eventRepository, taskRepository);
+        owner = data.user("fieldset-owner");
+        User member = data.user("fieldset-member");
+        for (int i = 0; i < EVENTS; i++) {
+            eventId = data.event(owner, member).getId();
+        }
+        Event event = eventRepository.findById(eventId).orElseThrow();
+        LocalDateTime deadline = LocalDateTime.now().plusDays(7).truncatedTo(ChronoUnit.SECONDS);
+        ETaskStatus[] statuses = ETaskStatus.values();
+        for (int i = 0; i < TASKS; i++) {
+            data.task(event, "Task " + i, statuses[i % statuses.length], i % 5 + 1,
+                    deadline.plusHours(i), i % 2 == 0 ? owner : member);
+        }
+    }
+
+    @Test
+    void fieldSetsShrinkTheTypicalViews() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            Specification<Event> ownEvents = (root, query, cb) -> cb.equal(root.get("createdBy").get("id"), owner.getId());
+            Pageable page = PageRequest.of(0, EVENTS, Sort.by(Sort.Direction.DESC, "createdAt"));
+            List<Event> events = eventRepository.findAll(ownEvents, page).getContent();
+            report(EVENT_VIEWS, ResourceFieldSets.EVENTS, events, columns(Event.class),
+                    writer -> sparseQueries.findPage(writer, ownEvents, page).getContent());
+
+            report(TASK_VIEWS, ResourceFieldSets.TASKS, taskRepository.findByEventId(eventId), columns(Task.class),
+                    writer -> sparseQueries.findAll(writer,
+                            (root, query, cb) -> cb.equal(root.get("event").get("id"), eventId), Sort.by("id")));
+        });
+    }
+
+    private <T> void report(Map<String, String> views, ResourceFields<T> fields, List<T> full, int fullColumns,
+                            Function<FieldSetWriter<T>, List<SparseRow>> sparse) {
+        long fullBytes = bytes(full);
+        views.forEach((view, names) -> {
+            FieldSetWriter<T> writer = fields.parse(names).orElseThrow();
+            List<SparseRow> rows = sparse.apply(writer);
+            long sparseBytes = bytes(rows);
+            logger.info("{} ({} rows, fields={}): {} -> {} bytes ({}% saved), {} -> {} columns",
+                    view, full.size(), String.join(",", writer.fieldNames()), fullBytes, sparseBytes,
+                    fullBytes == 0 ? 0 : 100 - sparseBytes * 100 / fullBytes, fullColumns, writer.columns());
+
+            assertThat(rows).as(view).hasSameSizeAs(full);
+            assertThat(sparseBytes).as(view + " bytes").isLessThan(fullBytes);
+            assertThat(writer.columns()).as(view + " columns").isLessThan(fullColumns);
+        });
+    }
+
+    private long bytes(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value).length;
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize report sample", ex);
+        }
+    }
+
+    // Columns Hibernate selects for the full entity: its own, plus those of each eagerly joined user.
+    private int columns(Class<?> type) {
+        EntityType<?> entity = entityManager.getMetamodel().entity(type);
+        int userColumns = entityManager.getMetamodel().entity(User.class).getSingularAttributes().size();
+        int columns = 0;
+        for (var attribute : entity.getSingularAttributes()) {
+            columns++;
+            if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.MANY_TO_ONE
+                    && attribute.getJavaType() == User.class) {
+                columns += userColumns;
+            }
+        }
+        return columns;
+    }
+}
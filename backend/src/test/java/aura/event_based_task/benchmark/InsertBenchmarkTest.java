@@ -0,0 +1,114 @@
+package aura.event_based_task.benchmark;
+
+import aura.event_based_task.model.ChatMessage;
+import aura.event_based_task.model.ERole;
+import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.model.Event;
+import aura.event_based_task.model.Task;
+import aura.event_based_task.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures insert throughput for tasks and chat messages. Runs only with
+ * {@code RUN_BENCHMARKS=true}; it uses the test database unless pointed at a scratch one with
+ * {@code -Dspring.datasource.url=...} (plus username, password, driver and dialect). The rows it
+ * creates are removed again when it finishes.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+class InsertBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(InsertBenchmarkTest.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.benchmark.rows:20000}")
+    private int rows;
+
+    @Value("${app.benchmark.chunk-size:500}")
+    private int chunkSize;
+
+    @Test
+    void insertThroughput() {
+        User user = transactionTemplate.execute(status -> {
+            User benchUser = new User();
+            benchUser.setUsername("bench" + (System.nanoTime() % 1_000_000_000L));
+            benchUser.setPassword("not-a-login");
+            benchUser.setRoles(Set.of(ERole.ROLE_MEMBER));
+            entityManager.persist(benchUser);
+            return benchUser;
+        });
+        Event event = transactionTemplate.execute(status -> {
+            Event benchEvent = new Event("Insert benchmark", "Insert throughput benchmark event",
+                    LocalDate.now().plusDays(1), null, entityManager.merge(user));
+            entityManager.persist(benchEvent);
+            return benchEvent;
+        });
+
+        try {
+            measure("tasks", i -> {
+                Task task = new Task();
+                task.setName("Benchmark task " + i);
+                task.setStatus(ETaskStatus.TO_DO);
+                task.setEvent(entityManager.getReference(Event.class, event.getId()));
+                return task;
+            }, "SELECT COUNT(t) FROM Task t WHERE t.event.id = :id", event.getId());
+            measure("chat_messages", i -> {
+                ChatMessage message = new ChatMessage();
+                message.setContent("Benchmark message " + i);
+                message.setSender(entityManager.getReference(User.class, user.getId()));
+                message.setEvent(entityManager.getReference(Event.class, event.getId()));
+                return message;
+            }, "SELECT COUNT(m) FROM ChatMessage m WHERE m.event.id = :id", event.getId());
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.createQuery("DELETE FROM ChatMessage m WHERE m.event.id = :id")
+                        .setParameter("id", event.getId()).executeUpdate();
+                entityManager.createQuery("DELETE FROM Task t WHERE t.event.id = :id")
+                        .setParameter("id", event.getId()).executeUpdate();
+                entityManager.remove(entityManager.find(Event.class, event.getId()));
+                entityManager.remove(entityManager.find(User.class, user.getId()));
+            });
+        }
+    }
+
+    private void measure(String table, IntFunction<Object> factory, String countQuery, Long eventId) {
+        long start = System.nanoTime();
+        for (int offset = 0; offset < rows; offset += chunkSize) {
+            int from = offset;
+            int to = Math.min(rows, offset + chunkSize);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = from; i < to; i++) {
+                    entityManager.persist(factory.apply(i));
+                }
+            });
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        Long inserted = transactionTemplate.execute(status -> entityManager.createQuery(countQuery, Long.class)
+                .setParameter("id", eventId).getSingleResult());
+        assertThat(inserted).isEqualTo((long) rows);
+        logger.info("Insert benchmark: {} rows into {} in {} s ({} inserts/s, chunk size {})",
+                rows, table, String.format("%.2f", seconds), Math.round(rows / seconds), chunkSize);
+    }
+}
@@ -0,0 +1,122 @@
+package aura.event_based_task.board;
+
+import aura.event_based_task.broadcast.BroadcastEvent;
+import aura.event_based_task.domain.TaskChangedEvent;
+import aura.event_based_task.dto.TaskBoardView;
+import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A board kept current by committed changes must match one rebuilt from the database after the
+ * same changes, including when a change is delivered twice.
+ */
+class TaskBoardAggregatesTest {
+
+    private static final Long EVENT_ID = 7L;
+
+    // What findBoardFacts returns: the committed state of the event's tasks.
+    private final Map<Long, TaskFacts> stored = new LinkedHashMap<>();
+    private final LocalDateTime future = LocalDateTime.now().plusDays(10);
+    private final LocalDateTime past = LocalDateTime.now().minusDays(10);
+
+    private ApplicationEventPublisher eventPublisher;
+    private TaskBoardAggregates aggregates;
+
+    @BeforeEach
+    void setUp() {
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        when(taskRepository.findBoardFacts(EVENT_ID)).thenAnswer(invocation -> new ArrayList<>(stored.values()));
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        aggregates = new TaskBoardAggregates(taskRepository, eventPublisher, transactionTemplate,
+                100, Duration.ofHours(1), Duration.ofHours(1));
+
+        commit(TaskChangedEvent.Type.CREATED, new TaskFacts(1L, ETaskStatus.TO_DO, 3, 5, null, future));
+        commit(TaskChangedEvent.Type.CREATED, new TaskFacts(2L, ETaskStatus.IN_PROGRESS, 1, 8, 2, past));
+        commit(TaskChangedEvent.Type.CREATED, new TaskFacts(3L, ETaskStatus.DONE, null, null, 4, past));
+    }
+
+    @Test
+    void createUpdateAndDeleteDeltasMatchARebuild() {
+        aggregates.get(EVENT_ID, false);
+
+        commit(TaskChangedEvent.Type.CREATED, new TaskFacts(4L, ETaskStatus.TO_DO, 5, 3, null, past));
+        commit(TaskChangedEvent.Type.UPDATED, new TaskFacts(1L, ETaskStatus.DONE, 2, 5, 6, future));
+        commit(TaskChangedEvent.Type.UPDATED, new TaskFacts(3L, ETaskStatus.TO_DO, 4, 1, 4, past));
+        commit(TaskChangedEvent.Type.DELETED, stored.get(2L));
+
+        TaskBoardView incremental = aggregates.get(EVENT_ID, false);
+        assertThat(incremental.total()).isEqualTo(3);
+        assertThat(incremental.overdue()).isEqualTo(2);
+        assertSameCounters(incremental, aggregates.get(EVENT_ID, true));
+    }
+
+    @Test
+    void changeAppliedTwiceCountsOnce() {
+        aggregates.get(EVENT_ID, false);
+
+        TaskChangedEvent created = commit(TaskChangedEvent.Type.CREATED, new TaskFacts(4L, ETaskStatus.TO_DO, 5, 3, 1, past));
+        aggregates.onTaskChanged(created);
+        TaskChangedEvent updated = commit(TaskChangedEvent.Type.UPDATED, new TaskFacts(2L, ETaskStatus.DONE, 1, 8, 9, past));
+        aggregates.onTaskChanged(updated);
+        TaskChangedEvent deleted = commit(TaskChangedEvent.Type.DELETED, stored.get(1L));
+        aggregates.onTaskChanged(deleted);
+
+        assertSameCounters(aggregates.get(EVENT_ID, false), aggregates.get(EVENT_ID, true));
+    }
+
+    @Test
+    void changesForBoardsNotLoadedAreIgnoredUntilTheBoardIsBuilt() {
+        commit(TaskChangedEvent.Type.CREATED, new TaskFacts(4L, ETaskStatus.TO_DO, 5, 3, null, future));
+
+        assertThat(aggregates.get(EVENT_ID, false).total()).isEqualTo(4);
+    }
+
+    @Test
+    void changedBoardIsPublishedOnceUntilItChangesAgain() {
+        aggregates.get(EVENT_ID, false);
+        commit(TaskChangedEvent.Type.UPDATED, new TaskFacts(1L, ETaskStatus.IN_PROGRESS, 3, 5, 1, future));
+
+        aggregates.publishChanged();
+        aggregates.publishChanged();
+
+        verify(eventPublisher, times(1)).publishEvent(any(BroadcastEvent.class));
+    }
+
+    // Writes the change to the stored facts and delivers it the way the after-commit listener does.
+    private TaskChangedEvent commit(TaskChangedEvent.Type type, TaskFacts facts) {
+        if (type == TaskChangedEvent.Type.DELETED) {
+            stored.remove(facts.taskId());
+        } else {
+            stored.put(facts.taskId(), facts);
+        }
+        TaskChangedEvent change = new TaskChangedEvent(type, facts.taskId(), EVENT_ID, facts.status(), facts.deadline(),
+                facts.priority(), facts.estimatedHours(), facts.actualHours());
+        aggregates.onTaskChanged(change);
+        return change;
+    }
+
+    private static void assertSameCounters(TaskBoardView actual, TaskBoardView rebuilt) {
+        assertThat(actual).usingRecursiveComparison().ignoringFields("asOf").isEqualTo(rebuilt);
+    }
+}
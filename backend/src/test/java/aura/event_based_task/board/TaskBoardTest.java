@@ -0,0 +1,47 @@
+package aura.event_based_task.board;
+
+import aura.event_based_task.model.ETaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskBoardTest {
+
+    private static final LocalDateTime LOADED = LocalDateTime.of(2030, 1, 10, 9, 0);
+    private static final LocalDateTime DEADLINE = LOADED.plusHours(2);
+
+    @Test
+    void overdueMovesPastADeadlineWithoutAnyTaskChange() {
+        TaskBoard board = new TaskBoard(1L, List.of(
+                new TaskFacts(1L, ETaskStatus.TO_DO, 2, null, null, DEADLINE),
+                new TaskFacts(2L, ETaskStatus.IN_PROGRESS, 3, null, null, DEADLINE),
+                new TaskFacts(3L, ETaskStatus.DONE, 3, null, null, DEADLINE),
+                new TaskFacts(4L, ETaskStatus.TO_DO, null, null, null, null)), LOADED);
+
+        assertThat(board.view(DEADLINE.minusMinutes(1)).overdue()).isZero();
+        assertThat(board.overdueChangedSincePublished(DEADLINE.minusMinutes(1))).isFalse();
+
+        // Finished tasks are never overdue.
+        assertThat(board.view(DEADLINE.plusMinutes(1)).overdue()).isEqualTo(2);
+        assertThat(board.overdueChangedSincePublished(DEADLINE.plusMinutes(1))).isTrue();
+
+        board.markPublished(DEADLINE.plusMinutes(1));
+        assertThat(board.overdueChangedSincePublished(DEADLINE.plusHours(1))).isFalse();
+    }
+
+    @Test
+    void finishingAnOverdueTaskTakesItOffTheCount() {
+        TaskBoard board = new TaskBoard(1L, List.of(new TaskFacts(1L, ETaskStatus.TO_DO, 2, 4, null, DEADLINE)), LOADED);
+
+        board.put(new TaskFacts(1L, ETaskStatus.DONE, 2, 4, 5, DEADLINE));
+        board.put(new TaskFacts(1L, ETaskStatus.DONE, 2, 4, 5, DEADLINE));
+
+        assertThat(board.view(DEADLINE.plusHours(1)).overdue()).isZero();
+        assertThat(board.view(DEADLINE.plusHours(1)).actualHours()).isEqualTo(5);
+        assertThat(board.view(DEADLINE.plusHours(1)).byStatus()).containsEntry(ETaskStatus.DONE, 1L)
+                .containsEntry(ETaskStatus.TO_DO, 0L);
+    }
+}
@@ -0,0 +1,74 @@
+package aura.event_based_task.controller;
+
+import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.model.Event;
+import aura.event_based_task.model.Task;
+import aura.event_based_task.model.User;
+import aura.event_based_task.repository.EventRepository;
+import aura.event_based_task.repository.TaskRepository;
+import aura.event_based_task.repository.UserRepository;
+import aura.event_based_task.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The calendar's ETag comes from a probe taken before the view is loaded: unchanged data
+ * revalidates to a 304, and a change to a task in the window produces a new tag.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CalendarControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private TaskRepository taskRepository;
+
+    @Test
+    void unchangedCalendarRevalidatesAndChangedOneDoesNot() throws Exception {
+        TestData data = new TestData(userRepository, eventRepository, taskRepository);
+        User owner = data.user("calendar-owner");
+        Event event = data.event(owner);
+        Task task = data.task(event, "Due in the window", ETaskStatus.TO_DO, 2, LocalDateTime.now().plusDays(5), owner);
+
+        String etag = mockMvc.perform(calendar(owner))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        mockMvc.perform(calendar(owner).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        Task stored = taskRepository.findById(task.getId()).orElseThrow();
+        stored.setDeadline(stored.getDeadline().plusDays(1));
+        taskRepository.save(stored);
+
+        String changed = mockMvc.perform(calendar(owner).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotBlank().isNotEqualTo(etag);
+    }
+
+    private static MockHttpServletRequestBuilder calendar(User owner) {
+        LocalDate today = LocalDate.now();
+        return get("/api/v1/calendar")
+                .param("from", today.toString())
+                .param("to", today.plusDays(40).toString())
+                .with(user(TestData.principal(owner)));
+    }
+}
@@ -0,0 +1,74 @@
+package aura.event_based_task.deadline;
+
+import aura.event_based_task.model.ENotificationStatus;
+import aura.event_based_task.model.ENotificationType;
+import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.model.Event;
+import aura.event_based_task.model.Notification;
+import aura.event_based_task.model.Task;
+import aura.event_based_task.model.User;
+import aura.event_based_task.repository.EventRepository;
+import aura.event_based_task.repository.NotificationRepository;
+import aura.event_based_task.repository.TaskRepository;
+import aura.event_based_task.repository.UserRepository;
+import aura.event_based_task.security.UserDetailsImpl;
+import aura.event_based_task.service.TaskService;
+import aura.event_based_task.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A task whose due-soon reminder is already due when it is committed gets the reminder from
+ * the after-commit listener, without waiting for a load window.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DeadlineReminderSchedulerTest {
+
+    @Autowired private TaskService taskService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private NotificationRepository notificationRepository;
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void taskDueWithinTheLeadIsRemindedOnCommit() {
+        TestData data = new TestData(userRepository, eventRepository, taskRepository);
+        User owner = data.user("reminder-owner");
+        User assignee = data.user("reminder-assignee");
+        Event event = data.event(owner, assignee);
+        UserDetailsImpl principal = TestData.principal(owner);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        // Whole seconds, so the deadline read back from the database equals the one on the timer.
+        LocalDateTime deadline = LocalDateTime.now().plusMinutes(5).truncatedTo(ChronoUnit.SECONDS);
+        Task task = Task.builder()
+                .name("Due in five minutes")
+                .status(ETaskStatus.TO_DO)
+                .deadline(deadline)
+                .assignedTo(assignee)
+                .build();
+        Long taskId = taskService.createTask(task, event.getId()).getId();
+
+        assertThat(taskRepository.isReminderSent(taskId, ENotificationType.TASK_DUE_SOON.name(), deadline)).isTrue();
+        assertThat(notificationRepository.findByRecipientAndStatus(assignee.getId(), ENotificationStatus.PENDING))
+                .extracting(Notification::getType)
+                .contains(ENotificationType.TASK_DUE_SOON);
+    }
+}
@@ -0,0 +1,22 @@
+package aura.event_based_task.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotPathMetricsTest {
+
+    @Test
+    void tagsTaskRoutesWithTheTasksFamily() {
+        assertThat(HotPathMetrics.endpointFamily("/api/tasks/event/7")).isEqualTo("tasks");
+        assertThat(HotPathMetrics.endpointFamily("/api/tasks/42")).isEqualTo("tasks");
+        assertThat(HotPathMetrics.endpointFamily("/api/tasks/batch")).isEqualTo("tasks");
+    }
+
+    @Test
+    void tagsOtherFamilies() {
+        assertThat(HotPathMetrics.endpointFamily("/api/v1/events/3")).isEqualTo("events");
+        assertThat(HotPathMetrics.endpointFamily("/api/auth/login")).isEqualTo("auth");
+        assertThat(HotPathMetrics.endpointFamily("/api/v1/files/abc.png")).isEqualTo("other");
+    }
+}
@@ -0,0 +1,96 @@
+package aura.event_based_task.metrics;
+
+import aura.event_based_task.config.QueryBudgetConfig;
+import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.model.Event;
+import aura.event_based_task.model.User;
+import aura.event_based_task.repository.EventRepository;
+import aura.event_based_task.repository.TaskRepository;
+import aura.event_based_task.repository.UserRepository;
+import aura.event_based_task.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards task listings against N+1 regressions: the statements a request issues, as counted by
+ * {@link QueryBudgetFilter}, must stay within the budget and must not grow with the number of
+ * tasks or distinct assignees.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryBudgetTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private QueryBudgetConfig budget;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private TaskRepository taskRepository;
+
+    private TestData data;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        data = new TestData(userRepository, eventRepository, taskRepository);
+        owner = data.user("budget-owner");
+    }
+
+    @Test
+    void taskSearchStatementsDoNotGrowWithTasks() throws Exception {
+        Event small = eventWithAssignedTasks(2);
+        Event large = eventWithAssignedTasks(25);
+
+        int smallCount = statementsFor(get("/api/tasks/event/{eventId}/search", small.getId()));
+        int largeCount = statementsFor(get("/api/tasks/event/{eventId}/search", large.getId()));
+
+        assertThat(largeCount).isEqualTo(smallCount);
+        assertThat(largeCount).isLessThanOrEqualTo(budget.getMaxStatements());
+    }
+
+    @Test
+    void sparseTaskListStatementsDoNotGrowWithTasks() throws Exception {
+        Event small = eventWithAssignedTasks(2);
+        Event large = eventWithAssignedTasks(25);
+
+        int smallCount = statementsFor(get("/api/tasks/event/{eventId}", small.getId())
+                .param("fields", "id,name,status,assignedTo"));
+        int largeCount = statementsFor(get("/api/tasks/event/{eventId}", large.getId())
+                .param("fields", "id,name,status,assignedTo"));
+
+        assertThat(largeCount).isEqualTo(smallCount);
+        assertThat(largeCount).isLessThanOrEqualTo(budget.getMaxStatements());
+    }
+
+    // Every task gets its own assignee, so a per-row user lookup would show up as extra statements.
+    private Event eventWithAssignedTasks(int tasks) {
+        Event event = data.event(owner);
+        for (int i = 0; i < tasks; i++) {
+            User assignee = data.user("budget-assignee");
+            data.task(event, "Task " + i, ETaskStatus.TO_DO, 1 + i % 5, LocalDateTime.now().plusDays(i + 1), assignee);
+        }
+        return event;
+    }
+
+    // MockMvc runs the filter chain on this thread, so the completed scope is readable here. The
+    // first call warms the second-level cache; the second is the one measured.
+    private int statementsFor(MockHttpServletRequestBuilder request) throws Exception {
+        request.with(user(TestData.principal(owner)));
+        mockMvc.perform(request).andExpect(status().isOk());
+        mockMvc.perform(request).andExpect(status().isOk());
+        return QueryCounter.lastCompleted().getStatementCount();
+    }
+}
@@ -0,0 +1,118 @@
+package aura.event_based_task.notification;
+
+import aura.event_based_task.config.NotificationConfig;
+import aura.event_based_task.model.ENotificationStatus;
+import aura.event_based_task.model.ENotificationType;
+import aura.event_based_task.model.Notification;
+import aura.event_based_task.model.User;
+import aura.event_based_task.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationDigestSenderTest {
+
+    private static final Long RECIPIENT_ID = 7L;
+
+    private NotificationRepository notificationRepository;
+    private JavaMailSender mailSender;
+    private NotificationDigestSender sender;
+    private User recipient;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        mailSender = mock(JavaMailSender.class);
+        sender = new NotificationDigestSender(notificationRepository, mailSender,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new NotificationConfig());
+
+        recipient = new User();
+        recipient.setId(RECIPIENT_ID);
+        recipient.setUsername("alice");
+        recipient.setEmail("alice@example.test");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sender.shutdown();
+    }
+
+    @Test
+    void pendingNotificationsForOneRecipientGoOutAsOneDigest() {
+        List<Notification> pending = queue("\"Plan venue\" was assigned to you",
+                "bob mentioned you in Launch: ready?", "\"Book caterer\" in Launch is overdue");
+
+        sender.poll();
+
+        SimpleMailMessage mail = sentMail();
+        assertThat(mail.getTo()).containsExactly("alice@example.test");
+        assertThat(mail.getSubject()).isEqualTo("You have 3 new notifications");
+        pending.forEach(notification -> assertThat(mail.getText()).contains("- " + notification.getMessage()));
+        verify(notificationRepository, timeout(5_000)).markSent(eq(List.of(1L, 2L, 3L)), any());
+    }
+
+    @Test
+    void singleNotificationSubjectHasNoLineBreaksAndIsBounded() {
+        queue("bob mentioned you in Launch: hi\r\nBcc: everyone@example.test\n" + "x".repeat(400));
+
+        sender.poll();
+
+        String subject = sentMail().getSubject();
+        assertThat(subject).doesNotContain("\r", "\n")
+                .startsWith("bob mentioned you in Launch: hi Bcc: everyone@example.test x")
+                .endsWith("...")
+                .hasSize(NotificationDigestSender.MAX_SUBJECT_LENGTH);
+    }
+
+    @Test
+    void shortSingleNotificationIsTheSubjectAsIs() {
+        assertThat(NotificationDigestSender.subject("\"Plan venue\" was assigned to you"))
+                .isEqualTo("\"Plan venue\" was assigned to you");
+        assertThat(NotificationDigestSender.subject("  tab\there\u2028and\u0085there  "))
+                .isEqualTo("tab here and there");
+    }
+
+    // Queues the messages as the recipient's due, pending rows, numbered from 1.
+    private List<Notification> queue(String... messages) {
+        List<Notification> pending = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (String message : messages) {
+            Notification notification = new Notification(recipient, ENotificationType.CHAT_MENTION, message, 1L,
+                    now.minusMinutes(10), now.minusMinutes(5));
+            notification.setId((long) pending.size() + 1);
+            pending.add(notification);
+        }
+        when(notificationRepository.findDueRecipientIds(eq(ENotificationStatus.PENDING), any(), any()))
+                .thenReturn(List.of(RECIPIENT_ID));
+        when(notificationRepository.findByRecipientAndStatus(RECIPIENT_ID, ENotificationStatus.PENDING))
+                .thenReturn(pending);
+        when(notificationRepository.transition(anyCollection(), eq(ENotificationStatus.PENDING),
+                eq(ENotificationStatus.SENDING), any())).thenReturn(pending.size());
+        return pending;
+    }
+
+    // Digests go out on the SMTP pool, so wait for the send.
+    private SimpleMailMessage sentMail() {
+        ArgumentCaptor<SimpleMailMessage> mail = ArgumentCaptor.forClass(SimpleMailMessage.class);
+        verify(mailSender, timeout(5_000)).send(mail.capture());
+        return mail.getValue();
+    }
+}
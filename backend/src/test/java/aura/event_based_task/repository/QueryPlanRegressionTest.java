@@ -0,0 +1,183 @@
+package aura.event_based_task.repository;
+
+import aura.event_based_task.metrics.QueryCounter;
+import aura.event_based_task.metrics.QueryStats;
+import aura.event_based_task.security.UserDetailsImpl;
+import aura.event_based_task.service.TaskQueryService;
+import aura.event_based_task.taskquery.TaskCursor;
+import aura.event_based_task.taskquery.TaskSort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the hot repository queries are served by the access-path indexes. Runs only when
+ * {@code QUERY_PLAN_DB_URL} points at a scratch PostgreSQL 16+ database: it seeds enough rows
+ * for the planner to prefer an index, calls the repositories while {@link QueryCounter} records
+ * the SQL Hibernate actually sends, EXPLAINs each statement as a generic plan, fails if any of
+ * them sequentially scans a seeded table, and rolls the seed data back.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "QUERY_PLAN_DB_URL", matches = ".+")
+class QueryPlanRegressionTest {
+
+    private static final int USERS = 2_000;
+    private static final int EVENTS = 2_000;
+    private static final int TASKS_PER_EVENT = 25;
+    private static final int MESSAGES_PER_EVENT = 50;
+
+    // Event -17's members are users -120..-124; its tasks are -425..-449.
+    private static final long EVENT_ID = -17L;
+    private static final long MEMBER_ID = -120L;
+    private static final String MEMBER = "qp120";
+
+    private static final List<String> SEEDED_TABLES =
+            List.of("users", "events", "event_members", "tasks", "task_dependencies", "chat_messages");
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private ChatMessageRepository chatMessageRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TaskQueryService taskQueryService;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("QUERY_PLAN_DB_URL"));
+        registry.add("spring.datasource.username", () -> System.getenv("QUERY_PLAN_DB_USERNAME"));
+        registry.add("spring.datasource.password", () -> System.getenv("QUERY_PLAN_DB_PASSWORD"));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.datasource.hikari.data-source-properties.sslmode", () -> "prefer");
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void hotQueriesUseIndexes() {
+        List<String> problems = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            seed();
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    new UserDetailsImpl(MEMBER_ID, MEMBER, "x", List.of(new SimpleGrantedAuthority("ROLE_MEMBER"))),
+                    null, List.of(new SimpleGrantedAuthority("ROLE_MEMBER"))));
+
+            Map<String, List<String>> statements = new LinkedHashMap<>();
+            statements.put("EventRepository.findByMembers_Id", captured(() -> eventRepository.findByMembers_Id(MEMBER_ID)));
+            statements.put("EventRepository.isUserMember", captured(() -> eventRepository.isUserMember(EVENT_ID, MEMBER)));
+            statements.put("EventRepository.findMemberEntries", captured(() -> eventRepository.findMemberEntries(MEMBER)));
+            statements.put("ChatMessageRepository.findByEventIdOrderByTimestampAsc",
+                    captured(() -> chatMessageRepository.findByEventIdOrderByTimestampAsc(EVENT_ID)));
+            statements.put("TaskRepository.findByEventId", captured(() -> taskRepository.findByEventId(EVENT_ID)));
+            statements.put("TaskRepository.findBoardFacts", captured(() -> taskRepository.findBoardFacts(EVENT_ID)));
+            statements.put("TaskRepository.countByStatusForMember", captured(() -> taskRepository.countByStatusForMember(MEMBER)));
+            statements.put("UserRepository.findByUsername", captured(() -> userRepository.findByUsername(MEMBER)));
+            statements.put("task search, newest first", captured(() -> taskQueryService.search(EVENT_ID,
+                    taskQueryService.filter(null, null, null, null, null, null), TaskSort.CREATED_AT, null, null, null)));
+            statements.put("task search, deadline keyset page", captured(() -> taskQueryService.search(EVENT_ID,
+                    taskQueryService.filter(null, null, null, null, null, null), TaskSort.DEADLINE, false,
+                    new TaskCursor(TaskSort.DEADLINE, false, -430L, LocalDateTime.of(2030, 1, 1, 0, 0)).encode(), null)));
+            statements.put("task search, by status and assignee", captured(() -> taskQueryService.search(EVENT_ID,
+                    taskQueryService.filter("IN_PROGRESS", null, String.valueOf(MEMBER_ID), null, null, null),
+                    TaskSort.CREATED_AT, null, null, null)));
+
+            List<String> found = new ArrayList<>();
+            statements.forEach((name, sqls) -> {
+                assertThat(sqls).as("statements captured for %s", name).isNotEmpty();
+                for (String sql : sqls) {
+                    if (!sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+                        continue;
+                    }
+                    String plan = String.join("\n",
+                            jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numberParameters(sql), String.class));
+                    for (String table : SEEDED_TABLES) {
+                        if (plan.contains("Seq Scan on " + table + " ")) {
+                            found.add(name + " scans " + table + ":\n" + sql + "\n" + plan);
+                        }
+                    }
+                }
+            });
+            return found;
+        });
+
+        assertThat(problems).as("sequential scans on hot access paths").isEmpty();
+    }
+
+    private static List<String> captured(Runnable call) {
+        QueryCounter.begin(false, true);
+        QueryStats stats;
+        try {
+            call.run();
+        } finally {
+            stats = QueryCounter.end();
+        }
+        return stats.getStatements();
+    }
+
+    // JDBC placeholders become $1..$n so PostgreSQL can plan the statement without values.
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        boolean inLiteral = false;
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    // Negative ids keep the seed rows clear of anything the sequences hand out.
+    private void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, username, password) "
+                + "SELECT -g, 'qp' || g, 'x' FROM generate_series(1, ?) g", USERS);
+        jdbcTemplate.update("INSERT INTO events (id, name, description, date, creator_id) "
+                + "SELECT -g, 'qp event ' || g, 'seed', CURRENT_DATE, -(1 + g % ?) FROM generate_series(1, ?) g",
+                USERS, EVENTS);
+        jdbcTemplate.update("INSERT INTO event_members (event_id, user_id) "
+                + "SELECT -e, -(1 + (e * 7 + k) % ?) FROM generate_series(1, ?) e, generate_series(0, 4) k",
+                USERS, EVENTS);
+        jdbcTemplate.update("INSERT INTO tasks (id, name, status, event_id) "
+                + "SELECT -(e * ? + k), 'qp task', (ARRAY['TO_DO','IN_PROGRESS','DONE'])[1 + k % 3], -e "
+                + "FROM generate_series(1, ?) e, generate_series(0, ? - 1) k",
+                TASKS_PER_EVENT, EVENTS, TASKS_PER_EVENT);
+        jdbcTemplate.update("INSERT INTO task_dependencies (task_id, dependency_id) "
+                + "SELECT -(e * ? + k), -(e * ? + k - 1) FROM generate_series(1, ?) e, generate_series(1, ? - 1) k",
+                TASKS_PER_EVENT, TASKS_PER_EVENT, EVENTS, TASKS_PER_EVENT);
+        jdbcTemplate.update("INSERT INTO chat_messages (id, content, timestamp, event_id, sender_id) "
+                + "SELECT -(e * ? + k), 'qp', now() - k * interval '1 minute', -e, -(1 + e % ?) "
+                + "FROM generate_series(1, ?) e, generate_series(0, ? - 1) k",
+                MESSAGES_PER_EVENT, USERS, EVENTS, MESSAGES_PER_EVENT);
+        SEEDED_TABLES.forEach(table -> jdbcTemplate.execute("ANALYZE " + table));
+    }
+}
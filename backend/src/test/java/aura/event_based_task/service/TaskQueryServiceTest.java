@@ -0,0 +1,138 @@
+package aura.event_based_task.service;
+
+import aura.event_based_task.dto.KeysetPage;
+import aura.event_based_task.dto.TaskDto;
+import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.model.Event;
+import aura.event_based_task.model.User;
+import aura.event_based_task.repository.EventRepository;
+import aura.event_based_task.repository.TaskRepository;
+import aura.event_based_task.repository.UserRepository;
+import aura.event_based_task.security.UserDetailsImpl;
+import aura.event_based_task.support.TestData;
+import aura.event_based_task.taskquery.TaskFilter;
+import aura.event_based_task.taskquery.TaskSort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Keyset pagination over a fixture with null and tied sort keys: walking every page in either
+ * direction returns each task exactly once, and cursors are rejected outside their own ordering.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskQueryServiceTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    @Autowired private TaskQueryService taskQueryService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private TaskRepository taskRepository;
+
+    private Event event;
+    private Set<Long> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        TestData data = new TestData(userRepository, eventRepository, taskRepository);
+        User owner = data.user("keyset-owner");
+        event = data.event(owner);
+        UserDetailsImpl principal = TestData.principal(owner);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        LocalDateTime base = LocalDateTime.now().plusDays(3).truncatedTo(ChronoUnit.SECONDS);
+        // Nulls and ties on both deadline and priority, spread so several pages end inside a run.
+        LocalDateTime[] deadlines = {null, base, base, null, base.plusHours(1), null, base, base.plusHours(2),
+                null, base.plusHours(1), null};
+        Integer[] priorities = {3, null, 3, null, 1, 5, null, 3, 2, null, 3};
+        taskIds = new HashSet<>();
+        for (int i = 0; i < deadlines.length; i++) {
+            taskIds.add(data.task(event, "Task " + (char) ('a' + i % 4), ETaskStatus.TO_DO, priorities[i],
+                    deadlines[i], null).getId());
+        }
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @ParameterizedTest
+    @EnumSource(TaskSort.class)
+    void ascendingPagesReturnEveryTaskOnce(TaskSort sort) {
+        assertThat(walk(sort, false)).containsExactlyInAnyOrderElementsOf(taskIds);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TaskSort.class)
+    void descendingPagesReturnEveryTaskOnce(TaskSort sort) {
+        assertThat(walk(sort, true)).containsExactlyInAnyOrderElementsOf(taskIds);
+    }
+
+    @Test
+    void cursorFromAnotherSortIsRejected() {
+        String cursor = taskQueryService.search(event.getId(), noFilter(), TaskSort.DEADLINE, false, null, PAGE_SIZE)
+                .nextCursor();
+
+        assertThatThrownBy(() -> taskQueryService.search(event.getId(), noFilter(), TaskSort.PRIORITY, false, cursor, PAGE_SIZE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("The cursor belongs to a different sort order.");
+        assertThatThrownBy(() -> taskQueryService.search(event.getId(), noFilter(), TaskSort.DEADLINE, true, cursor, PAGE_SIZE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("The cursor belongs to a different sort order.");
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String badValue = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("DEADLINE|a|5|vnot-a-date".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> taskQueryService.search(event.getId(), noFilter(), TaskSort.DEADLINE, false, "%%not-base64%%", PAGE_SIZE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Malformed cursor.");
+        assertThatThrownBy(() -> taskQueryService.search(event.getId(), noFilter(), TaskSort.DEADLINE, false, badValue, PAGE_SIZE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Malformed cursor.");
+    }
+
+    // Follows nextCursor to the end, keeping every id in the order the pages returned them.
+    private List<Long> walk(TaskSort sort, boolean descending) {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        for (int page = 0; page <= taskIds.size(); page++) {
+            KeysetPage<TaskDto> result = taskQueryService.search(event.getId(), noFilter(), sort, descending, cursor, PAGE_SIZE);
+            result.content().forEach(task -> seen.add(task.getId()));
+            if (!result.hasNext()) {
+                return seen;
+            }
+            cursor = result.nextCursor();
+        }
+        throw new AssertionError("Paging by " + sort + " did not terminate; saw " + seen);
+    }
+
+    private TaskFilter noFilter() {
+        return taskQueryService.filter(null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,75 @@
+package aura.event_based_task.support;
+
+import aura.event_based_task.model.ERole;
+import aura.event_based_task.model.ETaskStatus;
+import aura.event_based_task.model.Event;
+import aura.event_based_task.model.Task;
+import aura.event_based_task.model.User;
+import aura.event_based_task.repository.EventRepository;
+import aura.event_based_task.repository.TaskRepository;
+import aura.event_based_task.repository.UserRepository;
+import aura.event_based_task.security.UserDetailsImpl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Seeds committed rows for integration tests. Names get a random suffix, so tests sharing the
+ * in-memory database never collide and need no cleanup.
+ */
+public final class TestData {
+
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final TaskRepository taskRepository;
+
+    public TestData(UserRepository userRepository, EventRepository eventRepository, TaskRepository taskRepository) {
+        this.userRepository = userRepository;
+        this.eventRepository = eventRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    public User user(String prefix) {
+        String username = prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("not-used");
+        user.setEmail(username + "@example.test");
+        user.setRoles(new HashSet<>(Set.of(ERole.ROLE_MEMBER)));
+        return userRepository.save(user);
+    }
+
+    public Event event(User owner, User... members) {
+        Event event = Event.builder()
+                .name("Seeded event")
+                .description("Created by a test")
+                .date(LocalDate.now().plusDays(30))
+                .createdBy(owner)
+                .build();
+        event.addMember(owner);
+        for (User member : members) {
+            event.addMember(member);
+        }
+        return eventRepository.save(event);
+    }
+
+    public Task task(Event event, String name, ETaskStatus status, Integer priority,
+                     LocalDateTime deadline, User assignee) {
+        Task task = Task.builder()
+                .name(name)
+                .status(status)
+                .priority(priority)
+                .deadline(deadline)
+                .assignedTo(assignee)
+                .event(event)
+                .build();
+        return taskRepository.save(task);
+    }
+
+    public static UserDetailsImpl principal(User user) {
+        return UserDetailsImpl.build(user);
+    }
+}
@@ -633,6 +633,7 @@ const AdvancedEventForm = ({
                     </h4>
                     <LazyImage
                       src={eventImageFiles[0]?.preview || formData.eventImage}
+                      size="medium"
                       alt="Event preview"
                       className="w-full h-48 rounded-lg"
                     />
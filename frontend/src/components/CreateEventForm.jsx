@@ -1,7 +1,7 @@
-import { useState } from 'react';
+import { useState, useEffect } from 'react';
 import { useMutation, useQueryClient } from '@tanstack/react-query';
 import toast from 'react-hot-toast';
-import { createEvent } from '../services/eventService';
+import { createEvent, uploadEventImage } from '../services/eventService';
 
 const CreateEventForm = ({ onClose }) => {
   const [name, setName] = useState('');
@@ -10,10 +10,31 @@ const CreateEventForm = ({ onClose }) => {
   const today = new Date().toISOString().split('T')[0];
   const [date, setDate] = useState(today);
   const [location, setLocation] = useState('');
+  const [image, setImage] = useState(null);
+  const [imagePreview, setImagePreview] = useState(null);
   const queryClient = useQueryClient();
 
+  useEffect(() => {
+    if (!image) {
+      setImagePreview(null);
+      return undefined;
+    }
+    const previewUrl = URL.createObjectURL(image);
+    setImagePreview(previewUrl);
+    return () => URL.revokeObjectURL(previewUrl);
+  }, [image]);
+
+  // The image endpoint needs the event id, so the upload follows the create.
+  const createWithImage = async (newEvent) => {
+    const event = await createEvent(newEvent);
+    if (image) {
+      await uploadEventImage(event.id, image);
+    }
+    return event;
+  };
+
   const mutation = useMutation({
-    mutationFn: createEvent,
+    mutationFn: createWithImage,
     onSuccess: () => {
       toast.success('Event created successfully!');
       queryClient.invalidateQueries({ queryKey: ['events'] });
@@ -58,6 +79,13 @@ const CreateEventForm = ({ onClose }) => {
           <input type="text" id="location" value={location} onChange={(e) => setLocation(e.target.value)} className="mt-1 w-full rounded-md border-gray-300 dark:border-gray-600 bg-white dark:bg-gray-700 shadow-sm" />
         </div>
       </div>
+      <div>
+        <label htmlFor="image" className="block text-sm font-medium text-gray-700 dark:text-gray-300">Image (optional)</label>
+        <input type="file" id="image" accept="image/*" onChange={(e) => setImage(e.target.files?.[0] || null)} className="mt-1 w-full text-sm text-gray-700 dark:text-gray-300" />
+        {imagePreview && (
+          <img src={imagePreview} alt="Event preview" className="mt-2 h-32 w-full object-cover rounded-md" />
+        )}
+      </div>
       <div className="flex justify-end pt-2">
         <button type="submit" disabled={mutation.isPending} className="px-4 py-2 bg-indigo-600 text-white rounded-md hover:bg-indigo-700 disabled:opacity-50">
           {mutation.isPending ? 'Creating...' : 'Create Event'}
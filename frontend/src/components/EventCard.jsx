@@ -1,6 +1,7 @@
 import { Link } from 'react-router-dom';
 import { motion } from 'framer-motion';
 import { Calendar, User, CheckCircle } from 'lucide-react';
+import LazyImage from './ui/LazyImage';
 
 const EventCard = ({ event }) => {
   // The 'expired' field comes directly from the backend's isExpired() method
@@ -19,6 +20,15 @@ const EventCard = ({ event }) => {
         </div>
       )}
 
+      {event.imageUrl && (
+        <LazyImage
+          src={event.imageUrl}
+          size="small"
+          alt={event.name}
+          className="-mx-6 -mt-6 mb-4 h-40"
+        />
+      )}
+
       <h3 className="text-xl font-bold mb-2">{event.name}</h3>
       <div className="flex items-center text-sm text-gray-500 dark:text-gray-400 mb-4">
         <Calendar className="w-4 h-4 mr-2" />
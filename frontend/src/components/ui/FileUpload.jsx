@@ -6,6 +6,7 @@ import {
 } from 'lucide-react';
 import Button from './Button';
 import { notify } from '../../services/notificationService.jsx';
+import { IMAGE_SIZES, imageVariantUrl } from '../../utils/imageVariants';
 
 const FileUpload = ({
   onFileSelect,
@@ -232,9 +233,9 @@ const FileUpload = ({
                     <div className="flex items-center space-x-3 flex-1 min-w-0">
                       {/* File Preview/Icon */}
                       <div className="flex-shrink-0">
-                        {file.preview && showPreview ? (
+                        {(file.preview || file.url) && showPreview ? (
                           <img
-                            src={file.preview}
+                            src={file.preview || imageVariantUrl(file.url, IMAGE_SIZES.THUMB)}
                             alt={file.name}
                             className="w-10 h-10 rounded object-cover"
                           />
@@ -370,7 +371,8 @@ export const FilePreviewModal = ({ file, isOpen, onClose }) => {
         <div className="p-4">
           {file.type.startsWith('image/') ? (
             <img
-              src={file.preview || URL.createObjectURL(file.file)}
+              src={file.preview
+                || (file.url ? imageVariantUrl(file.url, IMAGE_SIZES.MEDIUM) : URL.createObjectURL(file.file))}
               alt={file.name}
               className="max-w-full h-auto"
             />
@@ -1,8 +1,10 @@
 import React, { useState, useRef, useEffect } from 'react';
 import { motion } from 'framer-motion';
+import { IMAGE_SIZES, imageVariantUrl, isStoredImageUrl } from '../../utils/imageVariants';
 
 const LazyImage = ({
   src,
+  size = null,
   alt = '',
   className = '',
   placeholder = null,
@@ -17,6 +19,12 @@ const LazyImage = ({
   const [hasError, setHasError] = useState(false);
   const imgRef = useRef(null);
 
+  // Uploaded images are fetched at the requested variant instead of the original.
+  const imageSrc = imageVariantUrl(src, size);
+  const blurSrc = size && size !== IMAGE_SIZES.THUMB && isStoredImageUrl(src)
+    ? imageVariantUrl(src, IMAGE_SIZES.THUMB)
+    : null;
+
   useEffect(() => {
     const observer = new IntersectionObserver(
       ([entry]) => {
@@ -57,6 +65,17 @@ const LazyImage = ({
       return placeholder;
     }
 
+    if (blurSrc && !hasError) {
+      return (
+        <img
+          src={blurSrc}
+          alt=""
+          aria-hidden="true"
+          className="absolute inset-0 w-full h-full object-cover filter blur-sm"
+        />
+      );
+    }
+
     // Default placeholder with blur hash or shimmer effect
     return (
       <div className="animate-pulse bg-gray-200 dark:bg-gray-700 w-full h-full flex items-center justify-center">
@@ -83,7 +102,7 @@ const LazyImage = ({
       
       {isInView && (
         <motion.img
-          src={src}
+          src={imageSrc}
           alt={alt}
           onLoad={handleLoad}
           onError={handleError}
@@ -103,7 +122,9 @@ const LazyImage = ({
 export const withProgressiveLoading = (WrappedComponent) => {
   return React.forwardRef((props, ref) => {
     const [lowResLoaded, setLowResLoaded] = useState(false);
-    const { src, lowResSrc, ...otherProps } = props;
+    const { src, lowResSrc: explicitLowResSrc, ...otherProps } = props;
+    const lowResSrc = explicitLowResSrc
+      || (isStoredImageUrl(src) ? imageVariantUrl(src, IMAGE_SIZES.THUMB) : null);
 
     return (
       <div className="relative">
@@ -10,6 +10,7 @@ import { useSocket } from '../context/SocketContext';
 import { useAuth } from '../context/AuthContext';
 import Loader from '../components/ui/Loader';
 import Button from '../components/ui/Button';
+import LazyImage from '../components/ui/LazyImage';
 import TaskList from '../components/TaskList';
 
 const EventDetails = () => {
@@ -149,6 +150,14 @@ const EventDetails = () => {
       <div className="grid grid-cols-1 lg:grid-cols-3 gap-8">
         <div className="lg:col-span-2 space-y-6">
           <div className="p-6 bg-white dark:bg-white/10 backdrop-blur-xl border border-gray-200 dark:border-white/20 shadow-lg rounded-2xl">
+            {event.imageUrl && (
+              <LazyImage
+                src={event.imageUrl}
+                size="medium"
+                alt={event.name}
+                className="mb-6 h-64 rounded-xl"
+              />
+            )}
             <div className="flex justify-between items-start">
               <div>
                 <h1 className="text-4xl font-bold mb-4">{event.name}</h1>
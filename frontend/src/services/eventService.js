@@ -18,6 +18,16 @@ export const createEvent = async (newEvent) => {
   return data;
 };
 
+// Corresponds to POST /api/v1/files/events/{eventId}/image
+export const uploadEventImage = async (eventId, file) => {
+  const formData = new FormData();
+  formData.append('file', file);
+  const { data } = await api.post(`/files/events/${eventId}/image`, formData, {
+    headers: { 'Content-Type': 'multipart/form-data' },
+  });
+  return data;
+};
+
 // Corresponds to POST /api/events/{eventId}/join
 export const joinEvent = async (eventId) => {
   const { data } = await api.post(`/events/${eventId}/join`);
@@ -0,0 +1,22 @@
+// Resized variants the file endpoint serves (backend ImageVariant): ?size=thumb|small|medium.
+export const IMAGE_SIZES = {
+  THUMB: 'thumb', // 64px: avatars, list previews, blur-up placeholders
+  SMALL: 'small', // 320px: cards
+  MEDIUM: 'medium', // 960px: detail views
+};
+
+const STORED_FILE_PATH = '/api/v1/files/';
+
+// Only uploads served by the file endpoint have variants; data:, blob: and external URLs do not.
+export const isStoredImageUrl = (src) =>
+  typeof src === 'string' && src.includes(STORED_FILE_PATH) && !/^(data|blob):/.test(src);
+
+export const imageVariantUrl = (src, size) => {
+  if (!size || !isStoredImageUrl(src)) {
+    return src;
+  }
+  const [path, query = ''] = src.split('?');
+  const params = new URLSearchParams(query);
+  params.set('size', size);
+  return `${path}?${params.toString()}`;
+};